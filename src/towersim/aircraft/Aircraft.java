@@ -2,18 +2,24 @@ package towersim.aircraft;
 
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
+import towersim.util.EmergencyListener;
 import towersim.util.EmergencyState;
+import towersim.util.Encodable;
 import towersim.util.OccupancyLevel;
 import towersim.util.Tickable;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Formatter;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents an aircraft whose movement is managed by the system.
  * @ass1
  */
-public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencyState {
+public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencyState, Encodable {
 
     /**
      * Weight of a litre of aviation fuel, in kilograms.
@@ -21,11 +27,17 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      */
     public static final double LITRE_OF_FUEL_WEIGHT = 0.8;
 
-    /** Unique callsign to identify the aircraft */
-    private String callsign;
+    /** Unique callsign to identify the aircraft, interned by the AircraftRegistry */
+    private final String callsign;
+
+    /** Sort key of the callsign, used by AircraftRegistry.CALLSIGN_ORDER */
+    private final long callsignKey;
 
     /** Characteristics of this aircraft including weight, fuel capacity, etc. */
-    private AircraftCharacteristics characteristics;
+    private final AircraftCharacteristics characteristics;
+
+    /** Hash code of this aircraft, cached as the callsign and characteristics never change */
+    private final int hashCode;
 
     /** List of tasks representing the aircraft's desired operations */
     private TaskList tasks;
@@ -36,6 +48,9 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
     /** Whether the aircraft is currently in a state of emergency */
     private boolean emergency;
 
+    /** Listeners notified whenever a state of emergency is declared or cleared */
+    private final List<EmergencyListener> emergencyListeners;
+
     /**
      * Creates a new aircraft with the given callsign, task list, fuel capacity and amount.
      * <p>
@@ -60,11 +75,14 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
         if (fuelAmount > characteristics.fuelCapacity) {
             throw new IllegalArgumentException("Amount of fuel onboard cannot exceed capacity");
         }
-        this.callsign = callsign;
+        this.callsign = AircraftRegistry.intern(callsign);
+        this.callsignKey = AircraftRegistry.sortKey(this.callsign);
         this.characteristics = characteristics;
+        this.hashCode = Objects.hash(this.callsign, this.characteristics);
         this.tasks = tasks;
         this.fuelAmount = fuelAmount;
         this.emergency = false;
+        this.emergencyListeners = new ArrayList<>();
     }
 
     /**
@@ -77,6 +95,11 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
         return callsign;
     }
 
+    /* Returns the sort key of this aircraft's callsign */
+    long getCallsignKey() {
+        return callsignKey;
+    }
+
     /**
      * Returns the current amount of fuel onboard, in litres.
      *
@@ -209,8 +232,12 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
         if (obj == this) {
             return true;
         }
+        if (!(obj instanceof Aircraft)) {
+            return false;
+        }
         Aircraft other = (Aircraft) obj;
-        if (this.getCallsign() != other.getCallsign()) {
+        //callsigns are interned, so equal callsigns are the same instance
+        if (this.callsign != other.callsign) {
             return false;
         }
         if (this.getCharacteristics() != other.getCharacteristics()) {
@@ -226,7 +253,7 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.callsign, this.getCharacteristics());
+        return this.hashCode;
     }
 
     /**
@@ -257,8 +284,8 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
     }
 
     /**
-     * Returns the machine-readable string representation of this aircraft.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this aircraft to the given destination.
+     * The format of the string to append is
      *
      * callsign:model:taskListEncoded:fuelAmount:emergency
      * where:
@@ -271,11 +298,20 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      * emergency is whether or not the aircraft is currently in a state of emergency
      * For example:
      * ABC123:AIRBUS_A320:AWAY,AWAY,LAND,WAIT,LOAD@50,TAKEOFF,AWAY:3250.00:false
-     * @return encoded string representation of this aircraft
+     * @param out destination to append the encoded aircraft to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
-        return String.format("%s:%s:%s:%.2f:%s", this.getCallsign(), this.characteristics.name(),
-                getTaskList().encode(), this.getFuelAmount(), this.emergency);
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        out.append(this.callsign).append(':').append(this.characteristics.name()).append(':');
+        this.tasks.encodeTo(out);
+        out.append(':');
+        //formats straight into the destination, in the same locale as String.format()
+        Formatter fuelFormatter = new Formatter(out).format("%.2f", this.fuelAmount);
+        if (fuelFormatter.ioException() != null) {
+            throw fuelFormatter.ioException();
+        }
+        out.append(':').append(this.emergency ? "true" : "false");
     }
 
     /**
@@ -284,7 +320,10 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      */
     @Override
     public void declareEmergency() {
-        this.emergency = true;
+        if (!this.emergency) {
+            this.emergency = true;
+            this.notifyEmergencyListeners();
+        }
     }
 
     /**
@@ -293,7 +332,38 @@ public abstract class Aircraft implements OccupancyLevel, Tickable, EmergencySta
      */
     @Override
     public void clearEmergency() {
-        this.emergency = false;
+        if (this.emergency) {
+            this.emergency = false;
+            this.notifyEmergencyListeners();
+        }
+    }
+
+    /**
+     * Registers the given listener to be notified whenever a state of emergency is declared or
+     * cleared on this aircraft.
+     *
+     * @param listener listener to notify
+     */
+    public void addEmergencyListener(EmergencyListener listener) {
+        this.emergencyListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener so that it is no longer notified of emergencies.
+     * <p>
+     * If the listener was never added, no action is taken.
+     *
+     * @param listener listener to remove
+     */
+    public void removeEmergencyListener(EmergencyListener listener) {
+        this.emergencyListeners.remove(listener);
+    }
+
+    /* Notifies all emergency listeners that a state of emergency was declared or cleared */
+    private void notifyEmergencyListeners() {
+        for (EmergencyListener listener : this.emergencyListeners) {
+            listener.emergencyChanged(this);
+        }
     }
 
     /**
@@ -0,0 +1,82 @@
+package towersim.aircraft;
+
+import java.util.Comparator;
+
+/**
+ * Registry of the aircraft callsigns in use by the system.
+ * <p>
+ * Each distinct callsign is interned, so that every aircraft with a given callsign holds the same
+ * String instance and aircraft can compare callsigns by identity. Callsigns are interned in the
+ * JVM's string pool, which needs no lock shared between threads creating aircraft and lets a
+ * callsign be reclaimed once no aircraft holds it.
+ */
+public final class AircraftRegistry {
+
+    /**
+     * Orders aircraft lexicographically by callsign.
+     * <p>
+     * Aircraft sharing a callsign are recognised by identity, and other aircraft are ordered by a
+     * key packing the start of their callsign into a long, so strings are only compared when the
+     * starts of two callsigns are the same.
+     */
+    public static final Comparator<Aircraft> CALLSIGN_ORDER = (first, second) -> {
+        if (first.getCallsign() == second.getCallsign()) {
+            return 0;
+        }
+        int order = Long.compare(first.getCallsignKey(), second.getCallsignKey());
+        return order != 0 ? order : first.getCallsign().compareTo(second.getCallsign());
+    };
+
+    /** Number of characters of a callsign packed into its sort key */
+    private static final int KEY_CHARS = 7;
+
+    /** Number of bits used for each character of a sort key */
+    private static final int KEY_CHAR_BITS = 9;
+
+    /** Largest value of a character in a sort key; larger characters end the key */
+    private static final int KEY_CHAR_LIMIT = (1 << KEY_CHAR_BITS) - 1;
+
+    /**
+     * AircraftRegistry is a utility class and should not be instantiated.
+     */
+    private AircraftRegistry() {
+    }
+
+    /**
+     * Returns the interned instance of the given callsign.
+     * <p>
+     * Equal callsigns are always interned as the same String instance.
+     *
+     * @param callsign callsign to intern
+     *
+     * @return interned String instance equal to the given callsign
+     */
+    public static String intern(String callsign) {
+        return callsign.intern();
+    }
+
+    /**
+     * Returns the sort key of the given callsign, used by {@link #CALLSIGN_ORDER}.
+     * <p>
+     * If the key of one callsign is less than the key of another, the first callsign comes first
+     * lexicographically. Callsigns with equal keys must be compared as strings.
+     *
+     * @param callsign callsign to find the sort key of
+     *
+     * @return sort key of the callsign
+     */
+    static long sortKey(String callsign) {
+        long key = 0;
+        boolean ended = false;
+        for (int i = 0; i < KEY_CHARS; i++) {
+            int bits = 0;
+            if (!ended && i < callsign.length()) {
+                bits = Math.min(callsign.charAt(i), KEY_CHAR_LIMIT);
+                //later characters are left out, so keys that tie are compared as strings
+                ended = bits == KEY_CHAR_LIMIT;
+            }
+            key = (key << KEY_CHAR_BITS) | bits;
+        }
+        return key;
+    }
+}
@@ -3,6 +3,8 @@ package towersim.aircraft;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 
+import java.io.IOException;
+
 /**
  * Represents an aircraft capable of carrying freight cargo.
  * @ass1
@@ -177,8 +179,9 @@ public class FreightAircraft extends Aircraft {
     }
 
     /**
-     * Returns the machine-readable string representation of this freight aircraft.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this freight aircraft to the given
+     * destination.
+     * The format of the string to append is
      *
      * callsign:model:taskListEncoded:fuelAmount:emergency:freightAmount
      * where:
@@ -192,10 +195,12 @@ public class FreightAircraft extends Aircraft {
      * freightAmount is the amount of freight currently onboard
      * For example:
      * ABC123:BOEING_747_8F:AWAY,AWAY,LAND,WAIT,LOAD@50,TAKEOFF,AWAY:3250.00:false:86300
-     * @return encoded string representation of this aircraft
+     * @param out destination to append the encoded aircraft to
+     * @throws IOException if the destination throws an IOException
      */
     @Override
-    public String encode() {
-        return super.encode() + String.format(":%d", this.freightAmount);
+    public void encodeTo(Appendable out) throws IOException {
+        super.encodeTo(out);
+        out.append(':').append(Integer.toString(this.freightAmount));
     }
 }
\ No newline at end of file
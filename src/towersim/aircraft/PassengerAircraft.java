@@ -3,6 +3,8 @@ package towersim.aircraft;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 
+import java.io.IOException;
+
 /**
  * Represents an aircraft capable of carrying passenger cargo.
  * @ass1
@@ -175,8 +177,9 @@ public class PassengerAircraft extends Aircraft {
     }
 
     /**
-     * Returns the machine-readable string representation of this passenger aircraft.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this passenger aircraft to the given
+     * destination.
+     * The format of the string to append is
      *
      * callsign:model:taskListEncoded:fuelAmount:emergency:numPassengers
      * where:
@@ -190,9 +193,12 @@ public class PassengerAircraft extends Aircraft {
      * numPassengers is the number of passengers currently onboard the aircraft
      * For example:
      * ABC123:AIRBUS_A320:AWAY,AWAY,LAND,WAIT,LOAD@50,TAKEOFF,AWAY:3250.00:false:76
-     * @return string representation of this aircraft
+     * @param out destination to append the encoded aircraft to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
-        return super.encode() + String.format(":%d", this.numPassengers);
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        super.encodeTo(out);
+        out.append(':').append(Integer.toString(this.numPassengers));
     }
 }
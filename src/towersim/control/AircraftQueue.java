@@ -3,6 +3,8 @@ package towersim.control;
 import towersim.aircraft.Aircraft;
 import towersim.util.Encodable;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,6 +47,26 @@ public abstract class AircraftQueue implements Encodable {
      */
     public abstract List<Aircraft> getAircraftInOrder();
 
+    /**
+     * Returns a list containing the first k aircraft in the queue, in order.
+     * That is, the returned list is equal to the first k elements of getAircraftInOrder(), or
+     * to all of them if the queue contains fewer than k aircraft.
+     *
+     * Subclasses should override this method to avoid ordering the entire queue when only the
+     * front of it is needed.
+     * Adding or removing elements from the returned list should not affect the original queue.
+     * @param k maximum number of aircraft to return
+     * @return list of at most k aircraft at the front of the queue, in queue order
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<Aircraft> firstK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        List<Aircraft> aircraftInOrder = this.getAircraftInOrder();
+        return new ArrayList<>(aircraftInOrder.subList(0, Math.min(k, aircraftInOrder.size())));
+    }
+
     /**
      * Returns true if the given aircraft is in the queue.
      * @param aircraft aircraft to find in queue
@@ -66,13 +88,14 @@ public abstract class AircraftQueue implements Encodable {
      */
     @Override
     public String toString() {
-        String aircrafts = this.callsignList(false);
+        String aircrafts = this.callsignList();
         return String.format("%s [%s]", this.getClass().getSimpleName(), aircrafts);
     }
 
     /**
-     * Returns the machine-readable string representation of this aircraft queue.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this aircraft queue to the given
+     * destination.
+     * The format of the string to append is
      *
      * QueueType:numAircraft
      * callsign1,callsign2,...,callsignN
@@ -87,48 +110,35 @@ public abstract class AircraftQueue implements Encodable {
      * For example:
      * TakeoffQueue:3
      * ABC101,QWE456,XYZ789
-     * @return encoded string representation of this aircraft queue
+     * @param out destination to append the encoded queue to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
-        StringBuilder encodedString = new StringBuilder();
-        int numAircraft = this.getAircraftInOrder().size();
-        encodedString.append(this.getClass().getSimpleName()).append(":")
-                .append(numAircraft);
-        //Only adds a new line if queue contains Aircrafts
-        if (numAircraft > 0) {
-            encodedString.append(System.lineSeparator());
-            encodedString.append(this.callsignList(true));
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        List<Aircraft> aircraftInOrder = this.getAircraftInOrder();
+        out.append(this.getClass().getSimpleName()).append(':')
+                .append(Integer.toString(aircraftInOrder.size()));
+        //callsigns go on a new line, which is only added if the queue contains aircraft
+        for (int i = 0; i < aircraftInOrder.size(); i++) {
+            out.append(i == 0 ? System.lineSeparator() : ",");
+            out.append(aircraftInOrder.get(i).getCallsign());
         }
-        return String.valueOf(encodedString);
     }
 
     /**
      * Helper method to get the String representation of the aircrafts' callsign.
-     * @param encode true if called by encode, false otherwise
      * @return string representation of aircrafts' callsign
      */
-    private String callsignList(boolean encode) {
+    private String callsignList() {
         StringBuilder aircraftsCallsign = new StringBuilder();
         List<Aircraft> aircraftInOrder = this.getAircraftInOrder();
         //Check if queue contains Aircrafts
         if (aircraftInOrder != null && !(aircraftInOrder.isEmpty())) {
-            if (!encode) {
-                for (Aircraft aircraft : aircraftInOrder) {
-                    aircraftsCallsign.append(aircraft.getCallsign()).append(", ");
-                }
-                if (aircraftsCallsign.length() > 0) {
-                    aircraftsCallsign.delete(aircraftsCallsign.length() - 2,
-                            aircraftsCallsign.length());
-                }
-            } else {
-                for (Aircraft aircraft : aircraftInOrder) {
-                    aircraftsCallsign.append(aircraft.getCallsign()).append(",");
-                }
-                if (aircraftsCallsign.length() > 0) {
-                    aircraftsCallsign.delete(aircraftsCallsign.length() - 1,
-                            aircraftsCallsign.length());
-                }
+            for (Aircraft aircraft : aircraftInOrder) {
+                aircraftsCallsign.append(aircraft.getCallsign()).append(", ");
             }
+            aircraftsCallsign.delete(aircraftsCallsign.length() - 2,
+                    aircraftsCallsign.length());
         }
         return String.valueOf(aircraftsCallsign);
     }
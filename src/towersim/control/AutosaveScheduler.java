@@ -0,0 +1,156 @@
+package towersim.control;
+
+import towersim.util.Tickable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodically saves a control tower to a bounded ring of checkpoints on disk.
+ * <p>
+ * The scheduler should be ticked on the thread that owns the control tower, straight after each
+ * tick of the tower (for example by registering it with
+ * {@link SimulationRunner#addPostTickAction(Tickable)}, or by calling {@link #tick()} in a
+ * headless simulation loop). Every given number of ticks, the tower is captured and handed to a
+ * {@link SaveWriter}, so the simulation does not wait for the checkpoint to be written.
+ * <p>
+ * Checkpoints are written in turn to the numbered directories {@code checkpoint-0},
+ * {@code checkpoint-1}, ... inside the autosave directory, overwriting the oldest checkpoint once
+ * all directories have been used. Checkpoint files are compressed, and can be read with
+ * {@link SaveFiles#openReader(String)}. If the save writer is still busy when a checkpoint is
+ * due, that checkpoint is skipped rather than queued.
+ */
+public class AutosaveScheduler implements Tickable {
+
+    /** Names of the compressed files written in each checkpoint directory, in save order */
+    private static final List<String> CHECKPOINT_FILENAMES = List.of(
+            "tick.txt" + SaveFiles.COMPRESSED_SUFFIX,
+            "aircraft.txt" + SaveFiles.COMPRESSED_SUFFIX,
+            "queues.txt" + SaveFiles.COMPRESSED_SUFFIX,
+            "terminalsWithGates.txt" + SaveFiles.COMPRESSED_SUFFIX);
+
+    /** Control tower to save */
+    private final ControlTower tower;
+
+    /** Writer used to write checkpoints in the background */
+    private final SaveWriter saveWriter;
+
+    /** Directories that checkpoints are written to, in turn */
+    private final List<File> checkpointDirectories;
+
+    /** Number of ticks between checkpoints */
+    private final int interval;
+
+    /** Listener notified of the progress of each checkpoint written */
+    private final SaveListener listener;
+
+    /** Number of ticks elapsed when a checkpoint was last due */
+    private long lastCheckpointTick;
+
+    /** Number of checkpoints handed to the save writer so far */
+    private long numCheckpoints;
+
+    /** Number of checkpoints skipped because the save writer was busy */
+    private long numSkipped;
+
+    /**
+     * Creates a new autosave scheduler, creating the checkpoint directories if they do not
+     * already exist.
+     * <p>
+     * The first checkpoint is due once the given number of ticks have elapsed from the tower's
+     * current tick.
+     *
+     * @param tower control tower to save
+     * @param saveWriter writer used to write checkpoints in the background
+     * @param directory directory in which to keep checkpoints
+     * @param interval number of ticks between checkpoints
+     * @param maxCheckpoints number of checkpoints to keep before the oldest is overwritten
+     * @param listener listener notified of the progress of each checkpoint, on the save
+     *                 writer's thread
+     *
+     * @throws IllegalArgumentException if interval or maxCheckpoints is less than one
+     * @throws IOException if the checkpoint directories could not be created
+     */
+    public AutosaveScheduler(ControlTower tower, SaveWriter saveWriter, File directory,
+                             int interval, int maxCheckpoints, SaveListener listener)
+            throws IOException {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Autosave interval must be at least one tick");
+        }
+        if (maxCheckpoints < 1) {
+            throw new IllegalArgumentException("At least one checkpoint must be kept");
+        }
+        this.tower = tower;
+        this.saveWriter = saveWriter;
+        this.interval = interval;
+        this.listener = listener;
+        this.checkpointDirectories = new ArrayList<>(maxCheckpoints);
+        for (int i = 0; i < maxCheckpoints; i++) {
+            File checkpointDirectory = new File(directory, "checkpoint-" + i);
+            Files.createDirectories(checkpointDirectory.toPath());
+            this.checkpointDirectories.add(checkpointDirectory);
+        }
+        this.lastCheckpointTick = tower.getTicksElapsed();
+    }
+
+    /**
+     * Returns the paths of the files making up the checkpoint in the given position of the ring.
+     *
+     * @param index position of the checkpoint, from zero to one less than the number of
+     *              checkpoints kept
+     *
+     * @return paths of the tick, aircraft, queues and terminals with gates files
+     */
+    public List<String> getCheckpointFilenames(int index) {
+        List<String> filenames = new ArrayList<>(CHECKPOINT_FILENAMES.size());
+        for (String filename : CHECKPOINT_FILENAMES) {
+            filenames.add(new File(this.checkpointDirectories.get(index), filename).getPath());
+        }
+        return filenames;
+    }
+
+    /**
+     * Returns the number of checkpoints handed to the save writer so far.
+     *
+     * @return number of checkpoints started
+     */
+    public long getNumCheckpoints() {
+        return this.numCheckpoints;
+    }
+
+    /**
+     * Returns the number of checkpoints that were skipped because the previous save was still
+     * being written.
+     *
+     * @return number of checkpoints skipped
+     */
+    public long getNumSkipped() {
+        return this.numSkipped;
+    }
+
+    /**
+     * Starts writing a checkpoint if one is due and the save writer is not busy.
+     * <p>
+     * A checkpoint is due once the configured number of ticks have elapsed since the last
+     * checkpoint was due, whether or not that checkpoint was skipped.
+     */
+    @Override
+    public void tick() {
+        long ticksElapsed = this.tower.getTicksElapsed();
+        if (ticksElapsed - this.lastCheckpointTick < this.interval) {
+            return;
+        }
+        this.lastCheckpointTick = ticksElapsed;
+        if (this.saveWriter.isWriting()) {
+            this.numSkipped++;
+            return;
+        }
+        int index = (int) (this.numCheckpoints % this.checkpointDirectories.size());
+        this.numCheckpoints++;
+        this.saveWriter.write(TowerSave.capture(this.tower), getCheckpointFilenames(index),
+                this.listener);
+    }
+}
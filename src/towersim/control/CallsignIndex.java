@@ -0,0 +1,150 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted index of aircraft by callsign, supporting lookup and prefix search in logarithmic time,
+ * and allocation of unused callsigns.
+ * <p>
+ * Aircraft are only ever added to the index, by the thread that owns the control tower, but the
+ * index may be read from any thread. Reads see every aircraft added before them and never block
+ * the simulation. If more than one aircraft with the same callsign is added, the first one is
+ * kept.
+ */
+public class CallsignIndex {
+
+    /** Aircraft in the index, by callsign */
+    private final NavigableMap<String, Aircraft> aircraft = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds the given aircraft to the index, unless an aircraft with the same callsign has already
+     * been added.
+     *
+     * @param aircraftToAdd aircraft to add
+     *
+     * @return true if the aircraft was added; false if its callsign was already in use
+     */
+    public boolean add(Aircraft aircraftToAdd) {
+        return this.aircraft.putIfAbsent(aircraftToAdd.getCallsign(), aircraftToAdd) == null;
+    }
+
+    /**
+     * Returns the number of distinct callsigns in the index.
+     *
+     * @return number of callsigns
+     */
+    public int size() {
+        return this.aircraft.size();
+    }
+
+    /**
+     * Returns whether an aircraft with the given callsign has been added to the index.
+     *
+     * @param callsign callsign to check
+     *
+     * @return true if the callsign is in use; false otherwise
+     */
+    public boolean contains(String callsign) {
+        return this.aircraft.containsKey(callsign);
+    }
+
+    /**
+     * Returns the aircraft with the given callsign.
+     *
+     * @param callsign callsign to look up
+     *
+     * @return aircraft, or null if no aircraft with the callsign has been added
+     */
+    public Aircraft get(String callsign) {
+        return this.aircraft.get(callsign);
+    }
+
+    /**
+     * Returns up to the given number of aircraft whose callsigns start with the given prefix,
+     * in callsign order.
+     * <p>
+     * The time taken depends on the number of aircraft returned, not on the number of aircraft
+     * in the index.
+     *
+     * @param prefix prefix to search for; an empty prefix matches every aircraft
+     * @param limit maximum number of aircraft to return
+     *
+     * @return list of matching aircraft, in callsign order
+     * @throws IllegalArgumentException if limit is negative
+     */
+    public List<Aircraft> findByPrefix(String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        List<Aircraft> found = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, Aircraft> entry : this.aircraft.tailMap(prefix, true).entrySet()) {
+            if (found.size() == limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            found.add(entry.getValue());
+        }
+        return found;
+    }
+
+    /**
+     * Returns the first callsign in callsign order made up of the given prefix followed by the
+     * given number of symbols from the given alphabet that is not in use.
+     * <p>
+     * For example, {@code allocate("QFA", "0123456789", 3)} returns {@code "QFA000"} if it is
+     * free, otherwise {@code "QFA001"}, and so on.
+     * <p>
+     * The callsigns in use from the first candidate onwards are visited once, in order, so a run
+     * of callsigns in use is skipped without looking up each one.
+     *
+     * @param prefix start of the callsign
+     * @param alphabet symbols that may follow the prefix, in ascending order
+     * @param length number of symbols following the prefix
+     *
+     * @return unused callsign
+     * @throws IllegalArgumentException if the alphabet is empty or length is negative
+     * @throws IllegalStateException if every such callsign is in use
+     */
+    public String allocate(String prefix, String alphabet, int length) {
+        if (alphabet.isEmpty() || length < 0) {
+            throw new IllegalArgumentException("Cannot allocate callsigns from an empty "
+                    + "alphabet or a negative length");
+        }
+        int[] digits = new int[length];
+        char[] callsign = (prefix + String.valueOf(alphabet.charAt(0)).repeat(length))
+                .toCharArray();
+        //walk the callsigns in use alongside the candidates, rather than looking each one up
+        Iterator<String> inUse = this.aircraft.tailMap(new String(callsign), true).keySet()
+                .iterator();
+        String nextInUse = inUse.hasNext() ? inUse.next() : null;
+        while (true) {
+            String candidate = new String(callsign);
+            //skip callsigns in use between candidates, such as longer callsigns
+            while (nextInUse != null && nextInUse.compareTo(candidate) < 0) {
+                nextInUse = inUse.hasNext() ? inUse.next() : null;
+            }
+            if (!candidate.equals(nextInUse)) {
+                return candidate;
+            }
+            //advance to the next candidate in order, like incrementing a number in base n
+            int position = length - 1;
+            while (position >= 0 && digits[position] == alphabet.length() - 1) {
+                digits[position] = 0;
+                callsign[prefix.length() + position] = alphabet.charAt(0);
+                position--;
+            }
+            if (position < 0) {
+                throw new IllegalStateException("Every callsign starting with " + prefix
+                        + " is in use");
+            }
+            digits[position]++;
+            callsign[prefix.length() + position] = alphabet.charAt(digits[position]);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package towersim.control;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.zip.Checksum;
+
+/**
+ * Reader that adds the text read through it to a checksum in the same way as
+ * {@link TowerSave#computeChecksum(String, String, String, String)}, so a save can be checked
+ * while it is being loaded rather than after it has been read into memory.
+ * <p>
+ * Each character read updates the checksum with its UTF-8 encoding, and reaching the end of the
+ * underlying reader adds the zero byte that separates the parts of a save. Skipping characters
+ * reads them, and marking is not supported.
+ */
+final class ChecksumReader extends FilterReader {
+
+    /** Checksum updated with the text read */
+    private final Checksum checksum;
+
+    /** High surrogate waiting for the character that follows it, or 0 if there is none */
+    private char pendingHighSurrogate;
+
+    /** Whether the end of the underlying reader has been added to the checksum */
+    private boolean ended;
+
+    /**
+     * Creates a reader that adds the text read from the given reader to the given checksum.
+     *
+     * @param in reader to read from
+     * @param checksum checksum to update
+     */
+    ChecksumReader(Reader in, Checksum checksum) {
+        super(in);
+        this.checksum = checksum;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+        if (read == -1) {
+            end();
+        } else {
+            update((char) read);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read == -1) {
+            end();
+        }
+        for (int i = 0; i < read; i++) {
+            update(buffer[offset + i]);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        char[] buffer = new char[(int) Math.min(Math.max(n, 0), 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    /* Adds a character to the checksum, pairing surrogates as String.getBytes(UTF_8) does */
+    private void update(char character) {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(character)) {
+                updateCodePoint(Character.toCodePoint(high, character));
+                return;
+            }
+            //unpaired surrogates are encoded as '?'
+            checksum.update('?');
+        }
+        if (Character.isHighSurrogate(character)) {
+            pendingHighSurrogate = character;
+        } else if (Character.isLowSurrogate(character)) {
+            checksum.update('?');
+        } else {
+            updateCodePoint(character);
+        }
+    }
+
+    /* Adds the UTF-8 encoding of a code point to the checksum */
+    private void updateCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            checksum.update(codePoint);
+        } else if (codePoint < 0x800) {
+            checksum.update(0xC0 | (codePoint >> 6));
+            checksum.update(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            checksum.update(0xE0 | (codePoint >> 12));
+            checksum.update(0x80 | ((codePoint >> 6) & 0x3F));
+            checksum.update(0x80 | (codePoint & 0x3F));
+        } else {
+            checksum.update(0xF0 | (codePoint >> 18));
+            checksum.update(0x80 | ((codePoint >> 12) & 0x3F));
+            checksum.update(0x80 | ((codePoint >> 6) & 0x3F));
+            checksum.update(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    /* Adds the separator following this part of the save, once */
+    private void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            checksum.update('?');
+        }
+        checksum.update(0);
+    }
+}
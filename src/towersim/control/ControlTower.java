@@ -6,13 +6,19 @@ import towersim.ground.AirplaneTerminal;
 import towersim.ground.Gate;
 import towersim.ground.HelicopterTerminal;
 import towersim.ground.Terminal;
-import towersim.tasks.Task;
+import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 import towersim.util.Tickable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Represents a the control tower of an airport.
@@ -39,6 +45,16 @@ public class ControlTower implements Tickable {
      */
     private List<Terminal> terminals;
 
+    /**
+     * Read-only view of the list of aircraft, handed out by getAircraftView().
+     */
+    private final List<Aircraft> aircraftView;
+
+    /**
+     * Read-only view of the list of terminals, handed out by getTerminalsView().
+     */
+    private final List<Terminal> terminalsView;
+
     /**
      * Takeoff queue for this control tower
      */
@@ -54,6 +70,77 @@ public class ControlTower implements Tickable {
      */
     private long ticksElapsed;
 
+    /**
+     * Aircraft landed during the most recent tick, or null if none.
+     */
+    private Aircraft aircraftLanded;
+
+    /**
+     * Aircraft that took off during the most recent tick, or null if none.
+     */
+    private Aircraft aircraftTookOff;
+
+    /**
+     * Positions in the list of aircraft of the aircraft whose current task has changed since they
+     * were last placed in the queues.
+     */
+    private final BitSet transitionedAircraft;
+
+    /**
+     * Positions in the list of aircraft of the aircraft managed by the control tower, grouped by
+     * the type of their current task.
+     */
+    private final Map<TaskType, BitSet> aircraftByTask;
+
+    /**
+     * Read-only views of the aircraft at the positions in aircraftByTask, in list order, handed
+     * out by getAircraftWithTask().
+     */
+    private final Map<TaskType, Set<Aircraft>> aircraftByTaskViews;
+
+    /**
+     * Position in the list of aircraft of each aircraft managed by the control tower, compared by
+     * identity.
+     */
+    private final Map<Aircraft, Integer> aircraftPositions;
+
+    /**
+     * Gate each aircraft was last parked at by this control tower, or found at when its terminal
+     * was added, compared by identity. Checked before use, as gates may also be changed directly.
+     */
+    private final Map<Aircraft, Gate> parkedGates;
+
+    /**
+     * Number of gates that aircraft of each type could currently park at, across all terminals.
+     */
+    private final Map<AircraftType, Integer> availableGates;
+
+    /**
+     * Number of available gates last counted for each terminal, used to update availableGates
+     * when a terminal signals that its availability has changed.
+     */
+    private final Map<Terminal, Integer> availableGatesByTerminal;
+
+    /**
+     * Commands posted from any thread, waiting to be run at the start of the next tick.
+     */
+    private final Queue<Consumer<? super ControlTower>> commandInbox;
+
+    /**
+     * Maximum number of events buffered for each subscriber before further events are dropped
+     * for that subscriber.
+     */
+    public static final int EVENT_BUFFER_CAPACITY = 1024;
+
+    /** Publisher of events to subscribers, on threads of the common pool. */
+    private final SubmissionPublisher<TowerEvent> events;
+
+    /** Number of events dropped because a subscriber's buffer was full. */
+    private volatile long numDroppedEvents;
+
+    /** Index of the aircraft managed by the tower by callsign, readable from any thread. */
+    private final CallsignIndex callsignIndex;
+
     /**
      * Creates a new ControlTower. The number of ticks elapsed, list of aircraft, landing queue,
      * takeoff queue and map of loading aircraft to loading times should all be set to the values
@@ -76,6 +163,35 @@ public class ControlTower implements Tickable {
         this.takeoffQueue = takeoffQueue;
         this.loadingAircraft = loadingAircraft;
         this.terminals = new ArrayList<>();
+        this.aircraftView = Collections.unmodifiableList(this.aircraft);
+        this.terminalsView = Collections.unmodifiableList(this.terminals);
+        this.transitionedAircraft = new BitSet();
+        this.aircraftByTask = new EnumMap<>(TaskType.class);
+        this.aircraftByTaskViews = new EnumMap<>(TaskType.class);
+        this.aircraftPositions = new IdentityHashMap<>();
+        this.parkedGates = new IdentityHashMap<>();
+        this.availableGates = new EnumMap<>(AircraftType.class);
+        for (AircraftType aircraftType : AircraftType.values()) {
+            this.availableGates.put(aircraftType, 0);
+        }
+        this.availableGatesByTerminal = new IdentityHashMap<>();
+        this.commandInbox = new ConcurrentLinkedQueue<>();
+        this.events = new SubmissionPublisher<>(ForkJoinPool.commonPool(),
+                EVENT_BUFFER_CAPACITY);
+        this.callsignIndex = new CallsignIndex();
+        for (TaskType taskType : TaskType.values()) {
+            BitSet aircraftWithTask = new BitSet();
+            this.aircraftByTask.put(taskType, aircraftWithTask);
+            this.aircraftByTaskViews.put(taskType, new AircraftAtPositions(aircraftWithTask));
+        }
+        for (int i = 0; i < this.aircraft.size(); i++) {
+            Aircraft aircraftManaged = this.aircraft.get(i);
+            this.watchTaskTransitions(aircraftManaged, i);
+            this.watchEmergencies(aircraftManaged);
+            this.callsignIndex.add(aircraftManaged);
+        }
+        //queues given may not reflect the aircraft's current tasks yet, so check all of them once
+        this.transitionedAircraft.set(0, this.aircraft.size());
     }
 
     /**
@@ -87,6 +203,68 @@ public class ControlTower implements Tickable {
      */
     public void addTerminal(Terminal terminal) {
         this.terminals.add(terminal);
+        for (Gate gate : terminal.getGates()) {
+            if (gate.isOccupied()) {
+                this.parkedGates.put(gate.getAircraftAtGate(), gate);
+            }
+        }
+        terminal.addAvailabilityListener(this::updateAvailableGates);
+        terminal.addEmergencyListener(source -> this.publish(terminal.hasEmergency()
+                ? TowerEvent.Type.EMERGENCY_DECLARED : TowerEvent.Type.EMERGENCY_CLEARED,
+                null, terminal.getTerminalNumber(), 0));
+        this.updateAvailableGates(terminal);
+    }
+
+    /**
+     * Recounts the gates available in the given terminal and updates the number of available
+     * gates for the type of aircraft the terminal accommodates.
+     * <p>
+     * Terminals in a state of emergency have no available gates.
+     *
+     * @param terminal terminal whose gate availability may have changed
+     */
+    private void updateAvailableGates(Terminal terminal) {
+        AircraftType aircraftType = getAccommodatedType(terminal);
+        if (aircraftType == null) {
+            return;
+        }
+        int available = terminal.hasEmergency() ? 0 : terminal.getNumUnoccupiedGates();
+        Integer previouslyAvailable = this.availableGatesByTerminal.put(terminal, available);
+        int change = available - (previouslyAvailable == null ? 0 : previouslyAvailable);
+        this.availableGates.merge(aircraftType, change, Integer::sum);
+    }
+
+    /**
+     * Returns the type of aircraft that can park at gates of the given terminal.
+     *
+     * @param terminal terminal to check
+     *
+     * @return aircraft type accommodated by the terminal; or null if it is not a known type of
+     *         terminal
+     */
+    private static AircraftType getAccommodatedType(Terminal terminal) {
+        if (terminal instanceof AirplaneTerminal) {
+            return AircraftType.AIRPLANE;
+        }
+        if (terminal instanceof HelicopterTerminal) {
+            return AircraftType.HELICOPTER;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether there is at least one unoccupied gate, in a terminal that is not in a state
+     * of emergency, at which an aircraft of the given type could park.
+     * <p>
+     * This is true exactly when {@link #findUnoccupiedGate(Aircraft)} would find a gate for an
+     * aircraft of the given type, but is answered without searching the terminals.
+     *
+     * @param aircraftType type of aircraft to check for
+     *
+     * @return true if a suitable gate is available; false otherwise
+     */
+    public boolean hasAvailableGate(AircraftType aircraftType) {
+        return this.availableGates.get(aircraftType) > 0;
     }
 
     /**
@@ -105,6 +283,35 @@ public class ControlTower implements Tickable {
         return new ArrayList<>(this.terminals);
     }
 
+    /**
+     * Returns a read-only view of all terminals currently managed by this control tower, in the
+     * same order as {@link #getTerminals()}.
+     * <p>
+     * Unlike getTerminals(), the list is not copied: it reflects terminals added later, and any
+     * attempt to modify it throws an {@code UnsupportedOperationException}.
+     *
+     * @return unmodifiable view of all terminals
+     */
+    public List<Terminal> getTerminalsView() {
+        return this.terminalsView;
+    }
+
+    /**
+     * Performs the given action on each terminal managed by this control tower that matches the
+     * given filter, in the same order as {@link #getTerminals()}.
+     *
+     * @param filter condition a terminal must satisfy for the action to be performed on it
+     * @param action action to perform on each matching terminal
+     */
+    public void forEachTerminal(Predicate<? super Terminal> filter,
+                                Consumer<? super Terminal> action) {
+        for (Terminal terminal : this.terminals) {
+            if (filter.test(terminal)) {
+                action.accept(terminal);
+            }
+        }
+    }
+
     /**
      * Adds the given aircraft to the jurisdiction of this control tower.
      * <p>
@@ -131,11 +338,174 @@ public class ControlTower implements Tickable {
             } catch (NoSpaceException ignored) {
                 // not possible, gate unoccupied
             }
+            this.parkedGates.put(aircraft, gate);
+            this.publish(TowerEvent.Type.GATE_ASSIGNED, aircraft, gate);
         }
         this.aircraft.add(aircraft);
+        this.watchTaskTransitions(aircraft, this.aircraft.size() - 1);
+        this.watchEmergencies(aircraft);
+        this.callsignIndex.add(aircraft);
         this.placeAircraftInQueues(aircraft);
     }
 
+    /**
+     * Adds all of the given aircraft to the jurisdiction of this control tower, in the order
+     * they are given.
+     * <p>
+     * The result is the same as calling {@link #addAircraft(Aircraft)} on each aircraft in turn,
+     * except that aircraft for which no suitable gate could be found are skipped and returned
+     * rather than causing an exception. Gates are allocated in a single pass over the terminals,
+     * so the time taken grows linearly with the number of aircraft and terminals rather than with
+     * their product.
+     *
+     * @param aircraftToAdd aircraft to add
+     *
+     * @return aircraft that could not be added because there was no suitable gate for them, in
+     *         the order they were given
+     */
+    public List<Aircraft> addAllAircraft(Collection<? extends Aircraft> aircraftToAdd) {
+        List<Aircraft> admitted = new ArrayList<>(aircraftToAdd.size());
+        List<Aircraft> unplaced = new ArrayList<>();
+        //terminals before these positions are known to have no free gate for the aircraft type
+        Map<AircraftType, Integer> nextTerminals = new EnumMap<>(AircraftType.class);
+        for (Aircraft aircraft : aircraftToAdd) {
+            TaskType currentTaskType = aircraft.getTaskList().getCurrentTask().getType();
+            if (currentTaskType == TaskType.WAIT || currentTaskType == TaskType.LOAD) {
+                Gate gate = this.findUnoccupiedGate(aircraft.getCharacteristics().type,
+                        nextTerminals);
+                if (gate == null) {
+                    unplaced.add(aircraft);
+                    continue;
+                }
+                try {
+                    gate.parkAircraft(aircraft);
+                } catch (NoSpaceException ignored) {
+                    // not possible, gate unoccupied
+                }
+                this.parkedGates.put(aircraft, gate);
+                this.publish(TowerEvent.Type.GATE_ASSIGNED, aircraft, gate);
+            }
+            admitted.add(aircraft);
+        }
+        int position = this.aircraft.size();
+        this.aircraft.addAll(admitted);
+        for (Aircraft aircraft : admitted) {
+            this.watchTaskTransitions(aircraft, position++);
+            this.watchEmergencies(aircraft);
+            this.callsignIndex.add(aircraft);
+            this.placeAircraftInQueues(aircraft);
+        }
+        return unplaced;
+    }
+
+    /**
+     * Finds an unoccupied gate for an aircraft of the given type in the same way as
+     * {@link #findUnoccupiedGate(Aircraft)}, but starts searching from the terminal recorded for
+     * that type in the given map and records where the gate was found.
+     * <p>
+     * As long as no gates become unoccupied in the meantime, repeated calls sharing the same map
+     * search each terminal at most once after it fills up.
+     *
+     * @param aircraftType type of aircraft for which to find a gate
+     * @param nextTerminals positions in the list of terminals to start searching from, by type
+     *
+     * @return unoccupied gate; or null if no suitable gate could be found
+     */
+    private Gate findUnoccupiedGate(AircraftType aircraftType,
+                                    Map<AircraftType, Integer> nextTerminals) {
+        if (!this.hasAvailableGate(aircraftType)) {
+            return null;
+        }
+        for (int i = nextTerminals.getOrDefault(aircraftType, 0); i < this.terminals.size(); i++) {
+            Terminal terminal = this.terminals.get(i);
+            if (!terminal.hasEmergency() && getAccommodatedType(terminal) == aircraftType) {
+                try {
+                    Gate gate = terminal.findUnoccupiedGate();
+                    nextTerminals.put(aircraftType, i);
+                    return gate;
+                } catch (NoSuitableGateException e) {
+                    // This terminal is full, try the next one
+                }
+            }
+        }
+        nextTerminals.put(aircraftType, this.terminals.size());
+        return null;
+    }
+
+    /**
+     * Indexes the given aircraft by its current task and subscribes to its task transitions so
+     * that the index is kept up to date and the aircraft is reconsidered by
+     * placeTransitionedAircraftInQueues() whenever its current task changes.
+     *
+     * @param aircraft aircraft to watch
+     * @param position position of the aircraft in the list of aircraft
+     */
+    private void watchTaskTransitions(Aircraft aircraft, int position) {
+        this.aircraftPositions.putIfAbsent(aircraft, position);
+        this.aircraftByTask.get(aircraft.getTaskList().getCurrentTask().getType()).set(position);
+        aircraft.getTaskList().addTransitionListener((previousTask, currentTask) -> {
+            this.aircraftByTask.get(previousTask.getType()).clear(position);
+            this.aircraftByTask.get(currentTask.getType()).set(position);
+            this.transitionedAircraft.set(position);
+        });
+    }
+
+    /**
+     * Publishes an emergency event whenever a state of emergency is declared or cleared on the
+     * given aircraft.
+     *
+     * @param aircraft aircraft to watch
+     */
+    private void watchEmergencies(Aircraft aircraft) {
+        aircraft.addEmergencyListener(source -> this.publish(aircraft.hasEmergency()
+                ? TowerEvent.Type.EMERGENCY_DECLARED : TowerEvent.Type.EMERGENCY_CLEARED,
+                aircraft, null));
+    }
+
+    /**
+     * Returns a read-only view of all aircraft managed by this control tower whose current task
+     * is of the given type.
+     * <p>
+     * The returned set is backed by the control tower and reflects later task changes, so it
+     * should be copied if it needs to be iterated while aircraft are moved to their next task.
+     * Aircraft appear in the same order as {@link #getAircraft()}.
+     *
+     * @param taskType type of current task to find aircraft for
+     *
+     * @return aircraft whose current task type is the given type
+     */
+    public Set<Aircraft> getAircraftWithTask(TaskType taskType) {
+        return this.aircraftByTaskViews.get(taskType);
+    }
+
+    /**
+     * Returns a list of the first k aircraft whose current task is of the given type, in the
+     * same order as {@link #getAircraftWithTask(TaskType)}.
+     * <p>
+     * Only the first k aircraft are visited, so this is suitable for displaying the front of a
+     * large group of aircraft, such as those that are AWAY.
+     *
+     * @param taskType type of current task to find aircraft for
+     * @param k maximum number of aircraft to return
+     *
+     * @return list of at most k aircraft whose current task type is the given type
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<Aircraft> firstKAircraftWithTask(TaskType taskType, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        Set<Aircraft> aircraftWithTask = this.aircraftByTaskViews.get(taskType);
+        List<Aircraft> firstAircraft = new ArrayList<>(Math.min(k, aircraftWithTask.size()));
+        for (Aircraft aircraft : aircraftWithTask) {
+            if (firstAircraft.size() == k) {
+                break;
+            }
+            firstAircraft.add(aircraft);
+        }
+        return firstAircraft;
+    }
+
     /**
      * Returns a list of all aircraft currently managed by this control tower.
      * <p>
@@ -152,6 +522,47 @@ public class ControlTower implements Tickable {
         return new ArrayList<>(this.aircraft);
     }
 
+    /**
+     * Returns a read-only view of all aircraft currently managed by this control tower, in the
+     * same order as {@link #getAircraft()}.
+     * <p>
+     * Unlike getAircraft(), the list is not copied: it reflects aircraft added later, and any
+     * attempt to modify it throws an {@code UnsupportedOperationException}.
+     *
+     * @return unmodifiable view of all aircraft
+     */
+    public List<Aircraft> getAircraftView() {
+        return this.aircraftView;
+    }
+
+    /**
+     * Returns the index of the aircraft managed by this control tower by callsign.
+     * <p>
+     * Unlike the tower's other state, the index may be read from any thread, so callsigns can be
+     * searched for or checked for uniqueness without waiting for the simulation thread.
+     *
+     * @return callsign index of the tower's aircraft
+     */
+    public CallsignIndex getCallsignIndex() {
+        return this.callsignIndex;
+    }
+
+    /**
+     * Performs the given action on each aircraft managed by this control tower that matches the
+     * given filter, in the same order as {@link #getAircraft()}.
+     *
+     * @param filter condition an aircraft must satisfy for the action to be performed on it
+     * @param action action to perform on each matching aircraft
+     */
+    public void forEachAircraft(Predicate<? super Aircraft> filter,
+                                Consumer<? super Aircraft> action) {
+        for (Aircraft aircraftManaged : this.aircraft) {
+            if (filter.test(aircraftManaged)) {
+                action.accept(aircraftManaged);
+            }
+        }
+    }
+
     /**
      * Returns the number of ticks that have elapsed for this control tower. If the control tower
      * was created with a non-zero number of elapsed ticks, this number should be taken into account
@@ -166,6 +577,31 @@ public class ControlTower implements Tickable {
         return this.ticksElapsed;
     }
 
+    /**
+     * Returns the aircraft landed during the most recent tick, or null if no aircraft landed.
+     * <p>
+     * An aircraft landed by calling {@link #tryLandAircraft()} directly is also returned, until
+     * the next tick starts.
+     *
+     * @return aircraft landed during the most recent tick, or null if none
+     */
+    public Aircraft getAircraftLanded() {
+        return this.aircraftLanded;
+    }
+
+    /**
+     * Returns the aircraft that took off during the most recent tick, or null if no aircraft took
+     * off.
+     * <p>
+     * An aircraft that took off by calling {@link #tryTakeOffAircraft()} directly is also
+     * returned, until the next tick starts.
+     *
+     * @return aircraft that took off during the most recent tick, or null if none
+     */
+    public Aircraft getAircraftTookOff() {
+        return this.aircraftTookOff;
+    }
+
     /**
      * Returns the queue of aircraft waiting to land.
      *
@@ -217,6 +653,9 @@ public class ControlTower implements Tickable {
      */
     public Gate findUnoccupiedGate(Aircraft aircraft) throws NoSuitableGateException {
         AircraftType aircraftType = aircraft.getCharacteristics().type;
+        if (!this.hasAvailableGate(aircraftType)) {
+            throw new NoSuitableGateException("No gate available for aircraft");
+        }
         for (Terminal terminal : terminals) {
             //Only consider terminals with no emergency.
             if (!terminal.hasEmergency()) {
@@ -259,30 +698,36 @@ public class ControlTower implements Tickable {
      * @return true if an aircraft was successfully landed and parked; false otherwise
      */
     public boolean tryLandAircraft() {
-        if (this.getLandingQueue().peekAircraft() != null) {
-            try {
-                Gate suitableGate = this.findUnoccupiedGate(this.landingQueue.peekAircraft());
-                Aircraft parkedAircraft = this.landingQueue.removeAircraft();
-                for (Terminal terminal : this.getTerminals()) {
-                    for (Gate gate : terminal.getGates()) {
-                        if (gate.equals(suitableGate)) {
-                            try {
-                                parkedAircraft.unload();
-                                parkedAircraft.getTaskList().moveToNextTask();
-                                gate.parkAircraft(parkedAircraft);
-                                return true;
-                            } catch (NoSpaceException e) {
-                                return false;
-                            }
-                        }
-                    }
-                }
-            } catch (NoSuitableGateException e) {
-                //the aircraft should not be landed and should remain in the queue.
-                return false;
-            }
+        //no aircraft could land, so avoid ordering the landing queue at all
+        if (!this.hasAvailableGate(AircraftType.AIRPLANE)
+                && !this.hasAvailableGate(AircraftType.HELICOPTER)) {
+            return false;
+        }
+        Aircraft aircraftToLand = this.landingQueue.peekAircraft();
+        if (aircraftToLand == null
+                || !this.hasAvailableGate(aircraftToLand.getCharacteristics().type)) {
+            return false;
+        }
+        Gate suitableGate;
+        try {
+            suitableGate = this.findUnoccupiedGate(aircraftToLand);
+        } catch (NoSuitableGateException e) {
+            //the aircraft should not be landed and should remain in the queue.
+            return false;
+        }
+        this.landingQueue.removeAircraft();
+        aircraftToLand.unload();
+        aircraftToLand.getTaskList().moveToNextTask();
+        try {
+            suitableGate.parkAircraft(aircraftToLand);
+        } catch (NoSpaceException ignored) {
+            // not possible, gate unoccupied
         }
-        return false;
+        this.parkedGates.put(aircraftToLand, suitableGate);
+        this.aircraftLanded = aircraftToLand;
+        this.publish(TowerEvent.Type.LANDED, aircraftToLand, suitableGate);
+        this.publish(TowerEvent.Type.GATE_ASSIGNED, aircraftToLand, suitableGate);
+        return true;
     }
 
     /**
@@ -293,7 +738,10 @@ public class ControlTower implements Tickable {
      */
     public void tryTakeOffAircraft() {
         if (this.takeoffQueue.peekAircraft() != null) {
-            this.getTakeoffQueue().removeAircraft().getTaskList().moveToNextTask();
+            Aircraft aircraftTakingOff = this.getTakeoffQueue().removeAircraft();
+            aircraftTakingOff.getTaskList().moveToNextTask();
+            this.aircraftTookOff = aircraftTakingOff;
+            this.publish(TowerEvent.Type.TOOK_OFF, aircraftTakingOff, null);
         }
     }
 
@@ -310,20 +758,49 @@ public class ControlTower implements Tickable {
             if (entry.getValue() == 0) {
                 this.loadingAircraft.remove(entry.getKey());
                 //aircraft leaves gate it is parked at
-                this.findGateOfAircraft(entry.getKey()).aircraftLeaves();
+                Gate gate = this.gateOf(entry.getKey());
+                gate.aircraftLeaves();
+                this.parkedGates.remove(entry.getKey());
                 //aircraft moves to its next task
                 entry.getKey().getTaskList().moveToNextTask();
+                this.publish(TowerEvent.Type.LOADING_FINISHED, entry.getKey(), gate);
             }
         }
     }
 
     /**
      * Calls placeAircraftInQueues(Aircraft) on all aircraft managed by the control tower.
+     * <p>
+     * Only aircraft with a current task of LAND, TAKEOFF or LOAD can be placed, so the other
+     * aircraft are skipped without being examined. The aircraft that are placed are visited in
+     * the same order as {@link #getAircraft()}.
      */
     public void placeAllAircraftInQueues() {
-        for (Aircraft aircraft : this.getAircraft()) {
-            this.placeAircraftInQueues(aircraft);
+        BitSet placeable = (BitSet) this.aircraftByTask.get(TaskType.LAND).clone();
+        placeable.or(this.aircraftByTask.get(TaskType.TAKEOFF));
+        placeable.or(this.aircraftByTask.get(TaskType.LOAD));
+        for (int i = placeable.nextSetBit(0); i >= 0; i = placeable.nextSetBit(i + 1)) {
+            this.placeAircraftInQueues(this.aircraft.get(i));
+        }
+        this.transitionedAircraft.clear();
+    }
+
+    /**
+     * Calls placeAircraftInQueues(Aircraft) on only those aircraft whose current task has changed
+     * since they were last placed in the queues.
+     * <p>
+     * Aircraft can only need to join a queue or the loading map after moving to a new task, so
+     * this gives the same result as placeAllAircraftInQueues() without examining every aircraft.
+     * The aircraft are placed in the same order as {@link #getAircraft()}, however many times or
+     * in whatever order their tasks changed, so aircraft that join the same queue in the same
+     * tick are queued in the order they appear in the list of aircraft.
+     */
+    public void placeTransitionedAircraftInQueues() {
+        for (int i = this.transitionedAircraft.nextSetBit(0); i >= 0;
+                i = this.transitionedAircraft.nextSetBit(i + 1)) {
+            this.placeAircraftInQueues(this.aircraft.get(i));
         }
+        this.transitionedAircraft.clear();
     }
 
     /**
@@ -343,16 +820,23 @@ public class ControlTower implements Tickable {
         if (aircraftTaskType == TaskType.LAND) {
             if (!this.getLandingQueue().containsAircraft(aircraft)) {
                 this.landingQueue.addAircraft(aircraft);
+                this.publish(TowerEvent.Type.QUEUED_TO_LAND, aircraft, null);
             }
         }
         if (aircraftTaskType == TaskType.TAKEOFF) {
             if (!this.getTakeoffQueue().containsAircraft(aircraft)) {
                 this.takeoffQueue.addAircraft(aircraft);
+                this.publish(TowerEvent.Type.QUEUED_TO_TAKE_OFF, aircraft, null);
             }
         }
         if (aircraftTaskType == TaskType.LOAD) {
             if (!this.getLoadingAircraft().containsKey(aircraft)) {
                 this.loadingAircraft.put(aircraft, aircraft.getLoadingTime());
+                //only look up the gate if anyone will see it
+                if (this.events.hasSubscribers()) {
+                    this.publish(TowerEvent.Type.LOADING_STARTED, aircraft,
+                            this.gateOf(aircraft));
+                }
             }
         }
     }
@@ -378,9 +862,144 @@ public class ControlTower implements Tickable {
         return null;
     }
 
+    /*
+     * Returns the gate where the given aircraft is parked, using the gate it was last parked at
+     * if it is still there, and otherwise searching every terminal with findGateOfAircraft()
+     */
+    private Gate gateOf(Aircraft aircraft) {
+        Gate gate = this.parkedGates.get(aircraft);
+        if (gate != null && gate.getAircraftAtGate() == aircraft) {
+            return gate;
+        }
+        return this.findGateOfAircraft(aircraft);
+    }
+
+    /**
+     * Posts a command to be run on this control tower at the start of the next tick.
+     * <p>
+     * Apart from this method, the control tower is not thread-safe. This method may be called
+     * from any thread at any time, never blocks, and lets other threads (such as schedule feeders
+     * or controllers) change the tower without interfering with a tick in progress. Commands are
+     * run on the thread that ticks the tower, in the order they were posted.
+     * <p>
+     * A command that needs to handle failure, such as {@link #addAircraft(Aircraft)} finding no
+     * suitable gate, should do so itself.
+     *
+     * @param command action to perform on this control tower
+     */
+    public void postCommand(Consumer<? super ControlTower> command) {
+        this.commandInbox.add(Objects.requireNonNull(command));
+    }
+
+    /**
+     * Runs the commands waiting in the inbox when this method is called, in the order they were
+     * posted, and returns the number of commands run.
+     * <p>
+     * This is called at the start of every tick, but may also be called directly by the thread
+     * that owns the tower, for example to apply commands while the simulation is paused. Only the
+     * batch of commands already in the inbox is run: commands posted while the batch is running,
+     * including by the commands themselves, are left for the next call. Busy producers therefore
+     * cannot hold up a tick, and a command that posts itself again runs once per tick. If a
+     * command throws an exception, it is propagated and the commands after it are left in the
+     * inbox.
+     *
+     * @return number of commands run
+     */
+    public int processCommands() {
+        int batchSize = this.commandInbox.size();
+        int commandsRun = 0;
+        while (commandsRun < batchSize) {
+            Consumer<? super ControlTower> command = this.commandInbox.poll();
+            if (command == null) {
+                break;
+            }
+            command.accept(this);
+            commandsRun++;
+        }
+        return commandsRun;
+    }
+
+    /**
+     * Returns the stream of events describing what happens in this control tower, such as
+     * aircraft landing, taking off, joining queues and loading.
+     * <p>
+     * This method may be called from any thread. Events are published on the thread that owns
+     * the tower, as they happen, and delivered to each subscriber asynchronously in the order
+     * they were published. No events are created while there are no subscribers.
+     * <p>
+     * Each subscriber has a buffer of up to {@link #EVENT_BUFFER_CAPACITY} events that have been
+     * published but not yet requested. Rather than slowing the simulation down, events published
+     * while a subscriber's buffer is full are dropped for that subscriber and counted by
+     * {@link #getNumDroppedEvents()}.
+     *
+     * @return publisher of tower events
+     */
+    public Flow.Publisher<TowerEvent> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Returns the number of events that were dropped because a subscriber had not requested
+     * them and its buffer was full.
+     * <p>
+     * This method may be called from any thread.
+     *
+     * @return number of events dropped, summed over all subscribers
+     */
+    public long getNumDroppedEvents() {
+        return this.numDroppedEvents;
+    }
+
+    /**
+     * Stops publishing events and completes every subscription once the events already
+     * published have been delivered.
+     * <p>
+     * Events that happen afterwards are not published.
+     */
+    public void closeEvents() {
+        this.events.close();
+    }
+
+    /**
+     * Publishes an event about an aircraft at the given gate.
+     *
+     * @param type kind of event
+     * @param aircraft aircraft the event happened to
+     * @param gate gate involved, or null if none
+     */
+    private void publish(TowerEvent.Type type, Aircraft aircraft, Gate gate) {
+        Terminal terminal = gate == null ? null : gate.getTerminal();
+        this.publish(type, aircraft, terminal == null ? 0 : terminal.getTerminalNumber(),
+                gate == null ? 0 : gate.getGateNumber());
+    }
+
+    /**
+     * Publishes an event to all subscribers, dropping it for any whose buffer is full.
+     *
+     * @param type kind of event
+     * @param aircraft aircraft the event happened to, or null if it happened to a terminal
+     * @param terminalNumber number of the terminal involved, or zero if none
+     * @param gateNumber number of the gate involved, or zero if none
+     */
+    private void publish(TowerEvent.Type type, Aircraft aircraft, int terminalNumber,
+                         int gateNumber) {
+        if (!this.events.hasSubscribers() || this.events.isClosed()) {
+            return;
+        }
+        this.events.offer(new TowerEvent(type, this.ticksElapsed, aircraft, terminalNumber,
+                gateNumber), (subscriber, event) -> {
+                    //only the owning thread publishes, so the count is never updated concurrently
+                    this.numDroppedEvents++;
+                    return false;
+                });
+    }
+
     /**
      * Advances the simulation by one tick.
      * <p>
+     * Any commands posted with {@link #postCommand(Consumer)} are run first, before the tick
+     * count is incremented. Commands posted while they run are left for the next tick.
+     * <p>
      * On each tick, the control tower should call {@link Aircraft#tick()} on all aircraft managed
      * by the control tower.
      * <p>
@@ -391,23 +1010,32 @@ public class ControlTower implements Tickable {
      * time tick() is called and every  second tick thereafter. If this is not a tick where the
      * control tower is attempting to land an aircraft, an aircraft  should be allowed to take off
      * instead. This ensures that aircraft wishing to take  off and land are given an equal share of
-     * the runway. Place all aircraft in their appropriate queues by calling
-     * placeAllAircraftInQueues(). Note that the actions performed by {@code tick()} are very simple
-     * at the moment and will be expanded on in assignment 2.
+     * the runway. Place all aircraft whose task changed in their appropriate queues by calling
+     * placeTransitionedAircraftInQueues(). Note that the actions performed by {@code tick()} are
+     * very simple at the moment and will be expanded on in assignment 2.
      *
      * @ass1
      */
     @Override
     public void tick() {
+        this.aircraftLanded = null;
+        this.aircraftTookOff = null;
+        this.processCommands();
         this.ticksElapsed++;
         // Call tick() on all other sub-entities
         for (Aircraft aircraft : this.aircraft) {
             aircraft.tick();
         }
-        for (Aircraft aircraft : this.getAircraft()) {
-            TaskType currentTask = aircraft.getTaskList().getCurrentTask().getType();
+        //copied, as moving to the next task updates the index being read
+        BitSet idleAircraft = (BitSet) this.aircraftByTask.get(TaskType.AWAY).clone();
+        idleAircraft.or(this.aircraftByTask.get(TaskType.WAIT));
+        //one pass in list order, as the order aircraft move on decides how they are queued
+        for (int i = idleAircraft.nextSetBit(0); i >= 0; i = idleAircraft.nextSetBit(i + 1)) {
+            TaskList taskList = this.aircraft.get(i).getTaskList();
+            TaskType currentTask = taskList.getCurrentTask().getType();
+            //an aircraft added more than once may already have moved on at an earlier position
             if (currentTask == TaskType.AWAY || currentTask == TaskType.WAIT) {
-                aircraft.getTaskList().moveToNextTask();
+                taskList.moveToNextTask();
             }
         }
         this.loadAircraft();
@@ -419,7 +1047,7 @@ public class ControlTower implements Tickable {
         } else {
             this.tryTakeOffAircraft();
         }
-        this.placeAllAircraftInQueues();
+        this.placeTransitionedAircraftInQueues();
     }
 
     /**
@@ -437,9 +1065,64 @@ public class ControlTower implements Tickable {
     @Override
     public String toString() {
         return String.format("ControlTower: %d terminals, %d total aircraft (%d LAND, %d TAKEOFF,"
-                        + " %d LOAD)", this.getTerminals().size(), this.aircraft.size(),
+                        + " %d LOAD)", this.terminals.size(), this.aircraft.size(),
                 this.getLandingQueue().getAircraftInOrder().size(),
                 this.getTakeoffQueue().getAircraftInOrder().size(),
                 this.getLoadingAircraft().size());
     }
+
+    /**
+     * Read-only set of the aircraft at the positions in a bit set, in list order.
+     * <p>
+     * The set reflects later changes to the bit set. Membership is checked by looking up the
+     * aircraft's position, so contains() takes constant time.
+     */
+    private class AircraftAtPositions extends AbstractSet<Aircraft> {
+
+        /** Positions in the list of aircraft of the aircraft in the set */
+        private final BitSet positions;
+
+        private AircraftAtPositions(BitSet positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public Iterator<Aircraft> iterator() {
+            return new Iterator<>() {
+                /** Position of the next aircraft to return, or -1 if there are no more */
+                private int next = positions.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return this.next >= 0;
+                }
+
+                @Override
+                public Aircraft next() {
+                    if (this.next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Aircraft nextAircraft = aircraft.get(this.next);
+                    this.next = positions.nextSetBit(this.next + 1);
+                    return nextAircraft;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.positions.cardinality();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.positions.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Integer position = aircraftPositions.get(o);
+            return position != null && this.positions.get(position);
+        }
+    }
 }
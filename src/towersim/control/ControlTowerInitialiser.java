@@ -2,6 +2,7 @@ package towersim.control;
 
 import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftRegistry;
 import towersim.aircraft.FreightAircraft;
 import towersim.aircraft.PassengerAircraft;
 import towersim.ground.AirplaneTerminal;
@@ -11,13 +12,27 @@ import towersim.ground.Terminal;
 import towersim.tasks.Task;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
+import towersim.util.Decoder;
 import towersim.util.MalformedSaveException;
 import towersim.util.NoSpaceException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * Utility class that contains static methods for loading a control tower and associated entities
@@ -297,6 +312,14 @@ public class ControlTowerInitialiser {
                                   TakeoffQueue takeoffQueue, LandingQueue landingQueue,
                                   Map<Aircraft, Integer> loadingAircraft)
             throws MalformedSaveException, IOException {
+        loadQueues(reader, lookupIn(aircraft), takeoffQueue, landingQueue, loadingAircraft);
+    }
+
+    /* Loads the queues as loadQueues(Reader, List, ...), finding aircraft with the given lookup */
+    private static void loadQueues(Reader reader, Function<String, List<Aircraft>> aircraft,
+                                   TakeoffQueue takeoffQueue, LandingQueue landingQueue,
+                                   Map<Aircraft, Integer> loadingAircraft)
+            throws MalformedSaveException, IOException {
         if (reader == null) {
             throw new IOException();
         }
@@ -343,6 +366,12 @@ public class ControlTowerInitialiser {
      */
     public static void readQueue(BufferedReader reader, List<Aircraft> aircraft,
                                  AircraftQueue queue) throws IOException, MalformedSaveException {
+        readQueue(reader, lookupIn(aircraft), queue);
+    }
+
+    /* Reads a queue as readQueue(BufferedReader, List, ...), finding aircraft with the lookup */
+    private static void readQueue(BufferedReader reader, Function<String, List<Aircraft>> aircraft,
+                                  AircraftQueue queue) throws IOException, MalformedSaveException {
         //number of aircraft listed on file
         int numAircraft;
         //actual number of aircrafts read from file
@@ -368,17 +397,14 @@ public class ControlTowerInitialiser {
                     throw new MalformedSaveException();
                 }
                 for (String aircraftRead : aircraftsInQueue) {
-                    boolean aircraftFound = false;
-                    for (Aircraft aircraftListed : aircraft) {
-                        String aircraftCallsign = aircraftListed.getCallsign();
-                        if (aircraftCallsign.equals(aircraftRead)) {
-                            aircraftFound = true;
-                            queue.addAircraft(aircraftListed);
-                        }
-                    }
-                    if (!aircraftFound) {
+                    List<Aircraft> aircraftListed = aircraft.apply(aircraftRead);
+                    if (aircraftListed.isEmpty()) {
                         throw new MalformedSaveException();
                     }
+                    //every aircraft with the callsign is queued
+                    for (Aircraft aircraftQueued : aircraftListed) {
+                        queue.addAircraft(aircraftQueued);
+                    }
                 }
             }
 
@@ -427,6 +453,14 @@ public class ControlTowerInitialiser {
     public static void readLoadingAircraft(BufferedReader reader, List<Aircraft> aircraft,
                                            Map<Aircraft, Integer> loadingAircraft)
             throws IOException, MalformedSaveException {
+        readLoadingAircraft(reader, lookupIn(aircraft), loadingAircraft);
+    }
+
+    /* Reads the loading map as readLoadingAircraft(BufferedReader, List, Map), using the lookup */
+    private static void readLoadingAircraft(BufferedReader reader,
+                                            Function<String, List<Aircraft>> aircraft,
+                                            Map<Aircraft, Integer> loadingAircraft)
+            throws IOException, MalformedSaveException {
         int numAircraft;
         int numAircraftRead = 0;
         try {
@@ -439,7 +473,6 @@ public class ControlTowerInitialiser {
                 String loadingAircraftRead;
                 while ((loadingAircraftRead = reader.readLine()) != null) {
                     numAircraftRead++;
-                    boolean aircraftFound = false;
                     String[] loadingMap = loadingAircraftRead.split(":");
                     if (loadingMap.length > 2) {
                         throw new MalformedSaveException();
@@ -448,16 +481,12 @@ public class ControlTowerInitialiser {
                     if (ticksRemaining < 1) {
                         throw new MalformedSaveException();
                     }
-                    for (Aircraft aircraftParked : aircraft) {
-                        if (aircraftParked.getCallsign().equals(loadingMap[0])) {
-                            aircraftFound = true;
-                            loadingAircraft.put(aircraftParked, ticksRemaining);
-                            break;
-                        }
-                    }
-                    if (!aircraftFound) {
+                    List<Aircraft> aircraftParked = aircraft.apply(loadingMap[0]);
+                    if (aircraftParked.isEmpty()) {
                         throw new MalformedSaveException();
                     }
+                    //only the first aircraft with the callsign is loading
+                    loadingAircraft.put(aircraftParked.get(0), ticksRemaining);
                 }
             }
             if (numAircraft != numAircraftRead) {
@@ -497,6 +526,13 @@ public class ControlTowerInitialiser {
      */
     public static List<Terminal> loadTerminalsWithGates(Reader reader, List<Aircraft> aircraft)
             throws MalformedSaveException, IOException {
+        return loadTerminalsWithGates(reader, lookupIn(aircraft));
+    }
+
+    /* Loads terminals as loadTerminalsWithGates(Reader, List), finding aircraft with the lookup */
+    private static List<Terminal> loadTerminalsWithGates(Reader reader,
+                                                         Function<String, List<Aircraft>> aircraft)
+            throws MalformedSaveException, IOException {
         if (reader == null) {
             throw new IOException();
         }
@@ -537,10 +573,17 @@ public class ControlTowerInitialiser {
      * type specified on the first line is neither AirplaneTerminal nor HelicopterTerminal. The
      * terminal number is not an integer (i.e. cannot be parsed by Integer.parseInt(String)). The
      * terminal number is less than one (1). The number of gates in the terminal is not an integer.
-     * The number of gates is less than zero or is greater than Terminal.MAX_NUM_GATES. A line
+     * The number of gates is less than zero. A line
      * containing an encoded gate was expected, but EOF (end of file) was received (i.e.
      * BufferedReader.readLine() returns null). Any of the conditions listed in the Javadoc for
      * readGate(String, List) are true.
+     * <p>
+     * The first line may end with an optional fifth part giving the gate capacity of the
+     * terminal, as written by Terminal.encode() for terminals whose capacity is not
+     * Terminal.MAX_NUM_GATES. The encoded terminal is also invalid if the gate capacity is given
+     * but is not an integer, or is less than the number of gates. Terminals without a gate
+     * capacity are created with a capacity of Terminal.MAX_NUM_GATES, or their number of gates
+     * if that is greater.
      *
      * @param line     string containing the first line of the encoded terminal
      * @param reader   reader from which to load the gates of the terminal (subsequent lines)
@@ -555,15 +598,23 @@ public class ControlTowerInitialiser {
     public static Terminal readTerminal(String line, BufferedReader reader,
                                         List<Aircraft> aircraft) throws IOException,
             MalformedSaveException {
+        return readTerminal(line, reader, lookupIn(aircraft));
+    }
+
+    /* Reads a terminal as readTerminal(String, BufferedReader, List), using the lookup */
+    private static Terminal readTerminal(String line, BufferedReader reader,
+                                         Function<String, List<Aircraft>> aircraft)
+            throws IOException, MalformedSaveException {
         Terminal terminalRead;
         String terminalType;
         int numGates = 0;
-        //4 parts expected
+        //4 parts expected, or 5 if the gate capacity is given
         int colonsExpected = 4;
         int terminalNumber;
         boolean emergencyStatus;
         String[] terminalParts = line.split(":");
-        if (terminalParts.length != colonsExpected) {
+        if (terminalParts.length != colonsExpected
+                && terminalParts.length != colonsExpected + 1) {
             throw new MalformedSaveException();
         }
         try {
@@ -575,14 +626,21 @@ public class ControlTowerInitialiser {
             if (terminalNumber < 1) {
                 throw new MalformedSaveException();
             }
-            if (numGates < 0 || numGates > Terminal.MAX_NUM_GATES) {
+            if (numGates < 0) {
                 throw new MalformedSaveException();
             }
+            int gateCapacity = Math.max(numGates, Terminal.MAX_NUM_GATES);
+            if (terminalParts.length > colonsExpected) {
+                gateCapacity = Integer.parseInt(terminalParts[colonsExpected]);
+                if (gateCapacity < numGates) {
+                    throw new MalformedSaveException();
+                }
+            }
             //Create Terminal
             if (terminalType.equals("AirplaneTerminal")) {
-                terminalRead = new AirplaneTerminal(terminalNumber);
+                terminalRead = new AirplaneTerminal(terminalNumber, gateCapacity);
             } else if (terminalType.equals("HelicopterTerminal")) {
-                terminalRead = new HelicopterTerminal(terminalNumber);
+                terminalRead = new HelicopterTerminal(terminalNumber, gateCapacity);
             } else {
                 throw new MalformedSaveException();
             }
@@ -625,6 +683,12 @@ public class ControlTowerInitialiser {
      */
     public static Gate readGate(String line, List<Aircraft> aircraft)
             throws MalformedSaveException {
+        return readGate(line, lookupIn(aircraft));
+    }
+
+    /* Reads a gate as readGate(String, List), finding the parked aircraft with the lookup */
+    private static Gate readGate(String line, Function<String, List<Aircraft>> aircraft)
+            throws MalformedSaveException {
         Gate gateRead;
         //2 parts expected
         int colonsExpected = 2;
@@ -643,11 +707,9 @@ public class ControlTowerInitialiser {
             gateRead = new Gate(gateNumber);
 
             if (!space.equals("empty")) {
-                //park aircraft at Gate
-                for (Aircraft aircraftPark : aircraft) {
-                    if (aircraftPark.getCallsign().equals(space)) {
-                        gateRead.parkAircraft(aircraftPark);
-                    }
+                //park aircraft at Gate; a second aircraft with the callsign does not fit
+                for (Aircraft aircraftPark : aircraft.apply(space)) {
+                    gateRead.parkAircraft(aircraftPark);
                 }
             }
         } catch (IllegalArgumentException | NoSpaceException e) {
@@ -656,6 +718,88 @@ public class ControlTowerInitialiser {
         return gateRead;
     }
 
+    /**
+     * Returns a decoder that reads one aircraft, encoded on a single line, as validated by
+     * {@link #readAircraft(String)}.
+     *
+     * @return aircraft decoder
+     */
+    public static Decoder<Aircraft> aircraftDecoder() {
+        return reader -> readAircraft(readEncodedLine(reader));
+    }
+
+    /**
+     * Returns a decoder that reads one task list, encoded on a single line, as validated by
+     * {@link #readTaskList(String)}.
+     *
+     * @return task list decoder
+     */
+    public static Decoder<TaskList> taskListDecoder() {
+        return reader -> readTaskList(readEncodedLine(reader));
+    }
+
+    /**
+     * Returns a decoder that reads one gate, encoded on a single line, as validated by
+     * {@link #readGate(String, List)}.
+     * <p>
+     * Parked aircraft are found among the given aircraft, which are indexed by callsign once
+     * when the decoder is created rather than searched for each gate.
+     *
+     * @param aircraft list of all aircraft, used when validating that callsigns exist
+     * @return gate decoder
+     */
+    public static Decoder<Gate> gateDecoder(List<Aircraft> aircraft) {
+        Function<String, List<Aircraft>> lookup = lookupIndexed(aircraft);
+        return reader -> readGate(readEncodedLine(reader), lookup);
+    }
+
+    /**
+     * Returns a decoder that reads one terminal followed by its gates, as validated by
+     * {@link #readTerminal(String, BufferedReader, List)}.
+     * <p>
+     * Parked aircraft are found among the given aircraft, which are indexed by callsign once
+     * when the decoder is created rather than searched for each gate.
+     *
+     * @param aircraft list of all aircraft, used when validating that callsigns exist
+     * @return terminal decoder
+     */
+    public static Decoder<Terminal> terminalDecoder(List<Aircraft> aircraft) {
+        Function<String, List<Aircraft>> lookup = lookupIndexed(aircraft);
+        return reader -> readTerminal(readEncodedLine(reader), reader, lookup);
+    }
+
+    /**
+     * Returns a decoder that reads one aircraft queue into a new empty queue, as validated by
+     * {@link #readQueue(BufferedReader, List, AircraftQueue)}.
+     * <p>
+     * Queued aircraft are found among the given aircraft, which are indexed by callsign once
+     * when the decoder is created rather than searched for each callsign.
+     *
+     * @param aircraft list of all aircraft, used when validating that callsigns exist
+     * @param newQueue creates the empty queue to decode each queue into
+     * @param <Q> type of queue decoded
+     * @return aircraft queue decoder
+     */
+    public static <Q extends AircraftQueue> Decoder<Q> queueDecoder(List<Aircraft> aircraft,
+                                                                    Supplier<Q> newQueue) {
+        Function<String, List<Aircraft>> lookup = lookupIndexed(aircraft);
+        return reader -> {
+            Q queue = newQueue.get();
+            readQueue(reader, lookup, queue);
+            return queue;
+        };
+    }
+
+    /* Reads the next line, which must exist as an encoded object is expected */
+    private static String readEncodedLine(BufferedReader reader)
+            throws IOException, MalformedSaveException {
+        String line = reader.readLine();
+        if (line == null) {
+            throw new MalformedSaveException();
+        }
+        return line;
+    }
+
     /**
      * Creates a control tower instance by reading various airport entities from the given readers.
      * The following methods should be called in this order, and their results stored temporarily,
@@ -668,7 +812,7 @@ public class ControlTowerInitialiser {
      * loadQueues(), an empty takeoff queue and landing queue should be created  by calling their
      * respective constructors. Additionally, an empty map should be created by calling:
      * <p>
-     * new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)) This is important as it will
+     * new TreeMap<>(AircraftRegistry.CALLSIGN_ORDER) This is important as it will
      * ensure that the map is ordered by aircraft callsign (lexicographically). Once all information
      * has been read from the readers, a new control tower should be initialised  by calling
      * ControlTower(long, List, LandingQueue, TakeoffQueue, Map). Finally,  the terminals that have
@@ -700,7 +844,7 @@ public class ControlTowerInitialiser {
         TakeoffQueue takeoffQueue = new TakeoffQueue();
         LandingQueue landingQueue = new LandingQueue();
         Map<Aircraft, Integer> loadingAircraftMap =
-                new TreeMap<>(Comparator.comparing(Aircraft::getCallsign));
+                new TreeMap<>(AircraftRegistry.CALLSIGN_ORDER);
         loadQueues(queues, controlTowerAircrafts, takeoffQueue, landingQueue, loadingAircraftMap);
         ControlTower controlTower = new ControlTower(controlTowerTick, controlTowerAircrafts,
                 landingQueue,
@@ -710,4 +854,293 @@ public class ControlTowerInitialiser {
         }
         return controlTower;
     }
+
+    /**
+     * Creates a control tower by reading from the given readers in the same way as
+     * {@link #createControlTower(Reader, Reader, Reader, Reader)}, but reads the aircraft,
+     * queues and terminals with gates concurrently.
+     * <p>
+     * The queues and terminals are read and checked on their own threads while the aircraft are
+     * still being loaded. They only wait for the aircraft once they reach the first callsign
+     * they need to look up, at which point callsigns are found in a hash map rather than by
+     * searching the list of aircraft. The resulting control tower is the same as the one created
+     * by createControlTower(), and if more than one reader is invalid, the exception reported is
+     * the one for the first such reader in parameter order.
+     *
+     * @param tick               reader from which to load the number of ticks elapsed
+     * @param aircraft           reader from which to load the list of aircraft
+     * @param queues             reader from which to load the aircraft queues and map of loading
+     *                           aircraft
+     * @param terminalsWithGates reader from which to load the terminals and their gates
+     *
+     * @return control tower created by reading from the given readers
+     *
+     * @throws MalformedSaveException if reading from any of the given readers results in a
+     *                                MalformedSaveException, indicating the contents of that reader
+     *                                are invalid
+     * @throws IOException            if an IOException is encountered when reading from any of the
+     *                                readers
+     */
+    public static ControlTower createControlTowerConcurrently(Reader tick, Reader aircraft,
+                                                              Reader queues,
+                                                              Reader terminalsWithGates)
+            throws MalformedSaveException, IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "save-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<List<Aircraft>> aircraftLoaded = executor.submit(() -> loadAircraft(aircraft));
+            Function<String, List<Aircraft>> lookup = lookupWhenLoaded(aircraftLoaded);
+            Future<List<Terminal>> terminalsLoaded = executor.submit(
+                    () -> loadTerminalsWithGates(terminalsWithGates, lookup));
+            TakeoffQueue takeoffQueue = new TakeoffQueue();
+            LandingQueue landingQueue = new LandingQueue();
+            Map<Aircraft, Integer> loadingAircraftMap =
+                    new TreeMap<>(AircraftRegistry.CALLSIGN_ORDER);
+            Future<?> queuesLoaded = executor.submit(() -> {
+                loadQueues(queues, lookup, takeoffQueue, landingQueue, loadingAircraftMap);
+                return null;
+            });
+
+            long controlTowerTick = loadTick(tick);
+            List<Aircraft> controlTowerAircrafts = awaitLoaded(aircraftLoaded);
+            List<Terminal> controlTowerTerminals = awaitLoaded(terminalsLoaded);
+            awaitLoaded(queuesLoaded);
+
+            ControlTower controlTower = new ControlTower(controlTowerTick, controlTowerAircrafts,
+                    landingQueue, takeoffQueue, loadingAircraftMap);
+            for (Terminal terminal : controlTowerTerminals) {
+                controlTower.addTerminal(terminal);
+            }
+            return controlTower;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a control tower from the given readers, skipping validation if the readers contain
+     * an unmodified save written by {@link TowerSave}.
+     * <p>
+     * The full contents of every reader are read into memory first, so that they can be loaded
+     * again if the checksum does not match. Use {@link #createControlTowerTrusted(List)} to load
+     * save files without holding them in memory.
+     * <p>
+     * If the second line of the tick file holds a checksum (see {@link TowerSave}) that matches
+     * the contents of all four readers, the tower is built directly from the contents without
+     * repeating the checks made by {@link #createControlTower(Reader, Reader, Reader, Reader)}.
+     * Otherwise, including for saves without a checksum, the contents are loaded and validated
+     * as usual by {@link #createControlTowerConcurrently(Reader, Reader, Reader, Reader)}.
+     *
+     * @param tick               reader from which to load the number of ticks elapsed
+     * @param aircraft           reader from which to load the list of aircraft
+     * @param queues             reader from which to load the aircraft queues and map of loading
+     *                           aircraft
+     * @param terminalsWithGates reader from which to load the terminals and their gates
+     *
+     * @return control tower created by reading from the given readers
+     *
+     * @throws MalformedSaveException if the checksum does not match and the contents of any of
+     *                                the readers are invalid
+     * @throws IOException            if an IOException is encountered when reading from any of the
+     *                                readers
+     */
+    public static ControlTower createControlTowerTrusted(Reader tick, Reader aircraft,
+                                                         Reader queues, Reader terminalsWithGates)
+            throws MalformedSaveException, IOException {
+        String tickContents = readAll(tick);
+        String aircraftContents = readAll(aircraft);
+        String queuesContents = readAll(queues);
+        String terminalsContents = readAll(terminalsWithGates);
+
+        List<String> tickLines = tickContents.lines().collect(Collectors.toList());
+        if (tickLines.size() == 2 && tickLines.get(1).equals(TowerSave.CHECKSUM_PREFIX
+                + TowerSave.computeChecksum(tickLines.get(0), aircraftContents, queuesContents,
+                terminalsContents))) {
+            try {
+                return TrustedSaveLoader.load(tickLines.get(0), aircraftContents,
+                        queuesContents, terminalsContents);
+            } catch (RuntimeException e) {
+                // Checksum matched by chance; validate the contents instead
+            }
+        }
+        return createControlTowerConcurrently(new StringReader(tickContents),
+                new StringReader(aircraftContents), new StringReader(queuesContents),
+                new StringReader(terminalsContents));
+    }
+
+    /**
+     * Creates a control tower from the save files with the given filenames, skipping validation
+     * if they hold an unmodified save written by {@link TowerSave}.
+     * <p>
+     * The files are opened with {@link SaveFiles#openReader(String)}, so compressed saves may be
+     * loaded. Unlike {@link #createControlTowerTrusted(Reader, Reader, Reader, Reader)}, the
+     * aircraft, queues and terminals files are never held in memory as a whole: if the tick file
+     * holds a checksum, the tower is built while the files are streamed, and the checksum is
+     * computed as they are read. If it does not match, or the tick file has no checksum, the
+     * files are opened again and loaded and validated as usual by
+     * {@link #createControlTowerConcurrently(Reader, Reader, Reader, Reader)}.
+     *
+     * @param filenames names of the tick, aircraft, queues and terminals with gates files, in
+     *                  that order
+     *
+     * @return control tower created from the save files
+     *
+     * @throws IllegalArgumentException if the number of filenames is not
+     *                                  {@link TowerSave#NUM_FILES}
+     * @throws MalformedSaveException   if the checksum does not match and the contents of any of
+     *                                  the files are invalid
+     * @throws IOException              if an IOException is encountered when reading from any of
+     *                                  the files
+     */
+    public static ControlTower createControlTowerTrusted(List<String> filenames)
+            throws MalformedSaveException, IOException {
+        if (filenames.size() != TowerSave.NUM_FILES) {
+            throw new IllegalArgumentException("Expected " + TowerSave.NUM_FILES
+                    + " filenames, got " + filenames.size());
+        }
+        String tickContents = readAll(SaveFiles.openReader(filenames.get(0)));
+        List<String> tickLines = tickContents.lines().collect(Collectors.toList());
+        if (tickLines.size() == 2 && tickLines.get(1).startsWith(TowerSave.CHECKSUM_PREFIX)) {
+            CRC32 checksum = new CRC32();
+            checksum.update(tickLines.get(0).getBytes(StandardCharsets.UTF_8));
+            checksum.update(0);
+            try (BufferedReader aircraft = openChecksummed(filenames.get(1), checksum);
+                 BufferedReader queues = openChecksummed(filenames.get(2), checksum);
+                 BufferedReader terminals = openChecksummed(filenames.get(3), checksum)) {
+                ControlTower tower = TrustedSaveLoader.load(tickLines.get(0),
+                        aircraft.lines().iterator(), queues.lines().iterator(),
+                        terminals.lines().iterator());
+                if (tickLines.get(1).equals(TowerSave.CHECKSUM_PREFIX
+                        + Long.toHexString(checksum.getValue()))) {
+                    return tower;
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                // Not an unmodified save; validate the contents instead
+            }
+        }
+        Reader aircraft = null;
+        Reader queues = null;
+        Reader terminals = null;
+        try {
+            aircraft = SaveFiles.openReader(filenames.get(1));
+            queues = SaveFiles.openReader(filenames.get(2));
+            terminals = SaveFiles.openReader(filenames.get(3));
+            return createControlTowerConcurrently(new StringReader(tickContents), aircraft,
+                    queues, terminals);
+        } finally {
+            for (Reader reader : new Reader[] {aircraft, queues, terminals}) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    /* Opens a save file whose text is added to the given checksum as it is read */
+    private static BufferedReader openChecksummed(String filename, CRC32 checksum)
+            throws IOException {
+        return new BufferedReader(new ChecksumReader(SaveFiles.openReader(filename), checksum));
+    }
+
+    /* Reads the entire contents of the given reader and closes it */
+    private static String readAll(Reader reader) throws IOException {
+        if (reader == null) {
+            throw new IOException();
+        }
+        StringBuilder contents = new StringBuilder();
+        char[] buffer = new char[8192];
+        try (reader) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                contents.append(buffer, 0, read);
+            }
+        }
+        return contents.toString();
+    }
+
+    /* Waits for part of a save to be loaded and rethrows any exception thrown when loading it */
+    private static <T> T awaitLoaded(Future<T> loaded)
+            throws MalformedSaveException, IOException {
+        try {
+            return loaded.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MalformedSaveException) {
+                throw (MalformedSaveException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /*
+     * Returns a lookup that finds every aircraft in the given list with a callsign, in list
+     * order, by searching the list
+     */
+    private static Function<String, List<Aircraft>> lookupIn(List<Aircraft> aircraft) {
+        return callsign -> {
+            List<Aircraft> found = new ArrayList<>(1);
+            for (Aircraft aircraftListed : aircraft) {
+                if (aircraftListed.getCallsign().equals(callsign)) {
+                    found.add(aircraftListed);
+                }
+            }
+            return found;
+        };
+    }
+
+    /*
+     * Returns a lookup that finds every aircraft with a callsign, in list order, in a map built
+     * up front
+     */
+    private static Function<String, List<Aircraft>> lookupIndexed(List<Aircraft> aircraft) {
+        Map<String, List<Aircraft>> aircraftByCallsign = indexByCallsign(aircraft);
+        return callsign -> aircraftByCallsign.getOrDefault(callsign, List.of());
+    }
+
+    /* Groups the given aircraft by callsign, keeping each group in list order */
+    private static Map<String, List<Aircraft>> indexByCallsign(List<Aircraft> aircraft) {
+        Map<String, List<Aircraft>> aircraftByCallsign = new HashMap<>();
+        for (Aircraft aircraftListed : aircraft) {
+            aircraftByCallsign.computeIfAbsent(aircraftListed.getCallsign(),
+                    callsign -> new ArrayList<>(1)).add(aircraftListed);
+        }
+        return aircraftByCallsign;
+    }
+
+    /*
+     * Returns a lookup that waits for the given aircraft to be loaded the first time it is used,
+     * then finds every aircraft with a callsign in a map. If the aircraft could not be loaded, no
+     * aircraft are found.
+     */
+    private static Function<String, List<Aircraft>> lookupWhenLoaded(
+            Future<List<Aircraft>> aircraftLoaded) {
+        //built once, by whichever thread needs it first
+        FutureTask<Map<String, List<Aircraft>>> aircraftByCallsign =
+                new FutureTask<>(() -> indexByCallsign(aircraftLoaded.get()));
+        return callsign -> {
+            aircraftByCallsign.run();
+            try {
+                return aircraftByCallsign.get().getOrDefault(callsign, List.of());
+            } catch (ExecutionException e) {
+                return List.of();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        };
+    }
 }
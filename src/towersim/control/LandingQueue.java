@@ -4,8 +4,10 @@ import towersim.aircraft.Aircraft;
 import towersim.aircraft.PassengerAircraft;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 /**
@@ -20,11 +22,23 @@ public class LandingQueue extends AircraftQueue {
      */
     private Queue<Aircraft> landingQueue;
 
+    /**
+     * Number of times each aircraft appears in the queue, used to answer containsAircraft() and
+     * to keep count on removal without searching the queue
+     */
+    private final Map<Aircraft, Integer> queuedCounts;
+
+    /**
+     * Number of priority bands used to order the queue
+     */
+    private static final int NUM_PRIORITY_BANDS = 4;
+
     /**
      * Constructs a new LandingQueue with an initially empty queue of aircraft.
      */
     public LandingQueue() {
         this.landingQueue = new LinkedList<>();
+        this.queuedCounts = new HashMap<>();
     }
 
     /**
@@ -35,6 +49,7 @@ public class LandingQueue extends AircraftQueue {
     @Override
     public void addAircraft(Aircraft aircraft) {
         this.landingQueue.add(aircraft);
+        this.queuedCounts.merge(aircraft, 1, Integer::sum);
     }
 
     /**
@@ -85,6 +100,8 @@ public class LandingQueue extends AircraftQueue {
         Aircraft removeAircraft = this.peekAircraft();
         if (removeAircraft != null) {
             this.landingQueue.remove(removeAircraft);
+            this.queuedCounts.computeIfPresent(removeAircraft,
+                    (aircraft, count) -> count == 1 ? null : count - 1);
         }
         return removeAircraft;
     }
@@ -100,22 +117,74 @@ public class LandingQueue extends AircraftQueue {
      */
     @Override
     public List<Aircraft> getAircraftInOrder() {
-        //List to be returned
-        List<Aircraft> aircraftInOrder = new LinkedList<>();
+        return this.firstK(this.landingQueue.size());
+    }
 
-        //Copy of LandingQueue
-        LandingQueue landingQueueCopy = new LandingQueue();
+    /**
+     * Returns a list containing the first k aircraft in the queue, in order.
+     * <p>
+     * The queue is ordered in a single pass by placing each aircraft into the first priority
+     * band it qualifies for, as described in peekAircraft(). No more than k aircraft are kept in
+     * any band, and the pass ends early once k emergency aircraft have been found.
+     *
+     * @param k maximum number of aircraft to return
+     *
+     * @return list of at most k aircraft at the front of the queue, in queue order
+     * @throws IllegalArgumentException if k is negative
+     */
+    @Override
+    public List<Aircraft> firstK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        //Aircraft in each priority band, in the order they were added
+        List<List<Aircraft>> bands = new ArrayList<>(NUM_PRIORITY_BANDS);
+        for (int i = 0; i < NUM_PRIORITY_BANDS; i++) {
+            bands.add(new ArrayList<>());
+        }
         for (Aircraft aircraft : this.landingQueue) {
-            landingQueueCopy.addAircraft(aircraft);
+            List<Aircraft> band = bands.get(getPriorityBand(aircraft));
+            if (band.size() < k) {
+                band.add(aircraft);
+            }
+            if (bands.get(0).size() == k) {
+                break;
+            }
         }
 
-        //Order the aircrafts in copy
-        for (int i = 0; i < this.landingQueue.size(); i++) {
-            aircraftInOrder.add(landingQueueCopy.removeAircraft());
+        List<Aircraft> aircraftInOrder = new ArrayList<>(Math.min(k, this.landingQueue.size()));
+        for (List<Aircraft> band : bands) {
+            for (Aircraft aircraft : band) {
+                if (aircraftInOrder.size() == k) {
+                    return aircraftInOrder;
+                }
+                aircraftInOrder.add(aircraft);
+            }
         }
         return aircraftInOrder;
     }
 
+    /**
+     * Returns the priority band of the given aircraft, where aircraft in lower bands are landed
+     * first: 0 for emergencies, 1 for critical fuel, 2 for passenger aircraft and 3 otherwise.
+     *
+     * @param aircraft aircraft to find the priority band of
+     *
+     * @return priority band of the aircraft
+     */
+    private static int getPriorityBand(Aircraft aircraft) {
+        if (aircraft.hasEmergency()) {
+            return 0;
+        }
+        if (aircraft.getFuelPercentRemaining() <= 20) {
+            return 1;
+        }
+        if (aircraft instanceof PassengerAircraft) {
+            return 2;
+        }
+        return 3;
+    }
+
     /**
      * Returns true if the given aircraft is in the queue.
      *
@@ -125,6 +194,6 @@ public class LandingQueue extends AircraftQueue {
      */
     @Override
     public boolean containsAircraft(Aircraft aircraft) {
-        return this.landingQueue.contains(aircraft);
+        return this.queuedCounts.containsKey(aircraft);
     }
 }
@@ -0,0 +1,89 @@
+package towersim.control;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utility class for opening save files, which may be stored as plain text or compressed with
+ * gzip.
+ * <p>
+ * Compression is applied and removed while streaming, so opening a file never reads it into
+ * memory as a whole.
+ * Files whose names end in {@link #COMPRESSED_SUFFIX} are written compressed, and files are
+ * recognised as compressed when read by the gzip header at their start, whatever their name.
+ */
+public final class SaveFiles {
+
+    /** Suffix of the names of save files that are written compressed */
+    public static final String COMPRESSED_SUFFIX = ".gz";
+
+    /** First two bytes of every gzip stream */
+    private static final int GZIP_MAGIC = GZIPInputStream.GZIP_MAGIC;
+
+    /** Size of the buffers used when streaming to and from files */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private SaveFiles() {
+    }
+
+    /**
+     * Opens the given save file for reading, decompressing it if it starts with a gzip header.
+     *
+     * @param filename path of the file to read
+     *
+     * @return reader of the file's text
+     * @throws IOException if the file could not be opened
+     */
+    public static Reader openReader(String filename) throws IOException {
+        InputStream in = new BufferedInputStream(new FileInputStream(filename), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int first = in.read();
+            int second = in.read();
+            in.reset();
+            //gzip stores its magic number least significant byte first
+            if (first != -1 && second != -1 && (first | (second << 8)) == GZIP_MAGIC) {
+                in = new GZIPInputStream(in, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new InputStreamReader(in, Charset.defaultCharset());
+    }
+
+    /**
+     * Opens the given save file for writing, replacing any existing contents. The file is
+     * compressed with gzip if its name ends in {@link #COMPRESSED_SUFFIX}.
+     *
+     * @param filename path of the file to write
+     *
+     * @return writer of the file's text, which must be closed to finish the file
+     * @throws IOException if the file could not be opened
+     */
+    public static Writer openWriter(String filename) throws IOException {
+        OutputStream out = new FileOutputStream(filename);
+        if (filename.endsWith(COMPRESSED_SUFFIX)) {
+            try {
+                out = new GZIPOutputStream(out, BUFFER_SIZE);
+            } catch (IOException e) {
+                out.close();
+                throw e;
+            }
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()),
+                BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,33 @@
+package towersim.control;
+
+import java.io.IOException;
+
+/**
+ * Listener that is notified of the progress of a save being written by a {@link SaveWriter}.
+ * <p>
+ * All methods are called on the save writer's thread, so listeners that update a user
+ * interface should hand the update over to the interface's own thread.
+ */
+public interface SaveListener {
+    /**
+     * Called each time more of the save has been written.
+     * <p>
+     * By default, no action is taken.
+     *
+     * @param fractionWritten fraction of the save written so far, from 0 to 1
+     */
+    default void progressed(double fractionWritten) {
+    }
+
+    /**
+     * Called once every file of the save has been written and closed.
+     */
+    void saved();
+
+    /**
+     * Called if the save could not be written. No further methods are called for the save.
+     *
+     * @param e exception that stopped the save from being written
+     */
+    void failed(IOException e);
+}
@@ -0,0 +1,122 @@
+package towersim.control;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes {@link TowerSave}s to files on a background thread.
+ * <p>
+ * Saves are written one at a time, in the order they were requested, so that the thread that
+ * captured a save (such as the simulation thread) never waits for files to be written.
+ */
+public class SaveWriter {
+
+    /** Number of characters written between progress updates */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** Executor owning the writer thread */
+    private final ExecutorService executor;
+
+    /** Number of saves requested that have not yet finished being written */
+    private final AtomicInteger pendingSaves;
+
+    /**
+     * Creates a new save writer with its own writer thread.
+     */
+    public SaveWriter() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pendingSaves = new AtomicInteger();
+    }
+
+    /**
+     * Writes the given save to the given files on the writer thread.
+     * <p>
+     * The files are written in the order of {@link TowerSave#getContents()}, and each file is
+     * closed once it has been written. Files whose names end in
+     * {@link SaveFiles#COMPRESSED_SUFFIX} are compressed as they are written. The given listener
+     * is told of the progress of the save and whether it succeeded. The save no longer counts
+     * towards {@link #isWriting()} by the time the listener is told that it has finished.
+     *
+     * @param save save to write
+     * @param filenames paths of the tick, aircraft, queues and terminals with gates files to write
+     * @param listener listener to notify of the save's progress
+     *
+     * @return future that completes once the save has been written or has failed
+     * @throws IllegalArgumentException if the number of filenames is not
+     *                                  {@link TowerSave#NUM_FILES}
+     * @throws RejectedExecutionException if the writer has been shut down
+     */
+    public Future<?> write(TowerSave save, List<String> filenames, SaveListener listener) {
+        if (filenames.size() != TowerSave.NUM_FILES) {
+            throw new IllegalArgumentException("Expected " + TowerSave.NUM_FILES
+                    + " filenames but got " + filenames.size());
+        }
+        List<String> files = List.copyOf(filenames);
+        this.pendingSaves.incrementAndGet();
+        try {
+            return this.executor.submit(() -> {
+                IOException failure = null;
+                try {
+                    writeFiles(save, files, listener);
+                } catch (IOException e) {
+                    failure = e;
+                }
+                //counted as finished before the listener is told, so it sees isWriting() updated
+                this.pendingSaves.decrementAndGet();
+                if (failure == null) {
+                    listener.saved();
+                } else {
+                    listener.failed(failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.pendingSaves.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /* Writes each file of the save in chunks, reporting progress after each chunk */
+    private static void writeFiles(TowerSave save, List<String> filenames, SaveListener listener)
+            throws IOException {
+        long length = save.getLength();
+        long written = 0;
+        List<String> contents = save.getContents();
+        for (int i = 0; i < contents.size(); i++) {
+            String content = contents.get(i);
+            try (Writer writer = SaveFiles.openWriter(filenames.get(i))) {
+                for (int start = 0; start < content.length(); start += CHUNK_SIZE) {
+                    int end = Math.min(start + CHUNK_SIZE, content.length());
+                    writer.write(content, start, end - start);
+                    written += end - start;
+                    listener.progressed(length == 0 ? 1 : (double) written / length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether any requested save has not yet finished being written.
+     *
+     * @return true if a save is waiting to be written or being written; false otherwise
+     */
+    public boolean isWriting() {
+        return this.pendingSaves.get() > 0;
+    }
+
+    /**
+     * Stops the writer thread once all previously requested saves have been written.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+}
@@ -0,0 +1,277 @@
+package towersim.control;
+
+import towersim.util.Tickable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a control tower simulation on its own thread.
+ * <p>
+ * All ticks and any other actions that read or modify the control tower are executed one at a
+ * time on a single simulation thread. After each of them, an immutable {@link TowerSnapshot} of
+ * the tower is published, which other threads (such as the GUI thread) can read at any time
+ * without locking.
+ */
+public class SimulationRunner {
+
+    /** Control tower being simulated */
+    private final ControlTower tower;
+
+    /**
+     * Maximum number of aircraft recorded from the front of each queue, and with each type of
+     * current task, in each snapshot
+     */
+    private final int queueLength;
+
+    /** Executor owning the simulation thread */
+    private final ExecutorService executor;
+
+    /** Thread on which the simulation runs */
+    private volatile Thread simulationThread;
+
+    /** Most recently published snapshot of the control tower */
+    private final AtomicReference<TowerSnapshot> latestSnapshot;
+
+    /** Actions ticked on the simulation thread straight after each tick of the tower */
+    private final List<Tickable> postTickActions;
+
+    /** Whether the tower is being ticked continuously */
+    private volatile boolean turbo;
+
+    /** Whether a batch of turbo ticks is waiting to be run on the simulation thread */
+    private final AtomicBoolean turboBatchScheduled;
+
+    /** Whether shutdown() has been called */
+    private final AtomicBoolean shutDown;
+
+    /**
+     * Longest time spent ticking in turbo mode before publishing a snapshot and letting other
+     * actions run, in nanoseconds (roughly one frame at 60 frames per second)
+     */
+    private static final long TURBO_BATCH_NANOS = 16_000_000;
+
+    /**
+     * Creates a new simulation runner for the given control tower and publishes an initial
+     * snapshot of it.
+     * <p>
+     * Once the runner has been created, the control tower should only be accessed through
+     * {@link #execute(Runnable)} or {@link #submit(Callable)}.
+     *
+     * @param tower control tower to simulate
+     * @param queueLength maximum number of aircraft recorded from the front of each queue, and
+     *                    with each type of current task, in each snapshot
+     */
+    public SimulationRunner(ControlTower tower, int queueLength) {
+        this.tower = tower;
+        this.queueLength = queueLength;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation");
+            thread.setDaemon(true);
+            simulationThread = thread;
+            return thread;
+        });
+        this.latestSnapshot = new AtomicReference<>(new TowerSnapshot(tower, queueLength));
+        this.turboBatchScheduled = new AtomicBoolean(false);
+        this.shutDown = new AtomicBoolean(false);
+        this.postTickActions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the control tower being simulated.
+     *
+     * @return control tower
+     */
+    public ControlTower getControlTower() {
+        return this.tower;
+    }
+
+    /**
+     * Returns the most recently published snapshot of the control tower.
+     * <p>
+     * This method may be called from any thread and never blocks.
+     *
+     * @return latest snapshot
+     */
+    public TowerSnapshot getLatestSnapshot() {
+        return this.latestSnapshot.get();
+    }
+
+    /**
+     * Requests that the control tower be ticked once on the simulation thread.
+     * <p>
+     * A new snapshot is published once the tick is complete.
+     */
+    public void requestTick() {
+        execute(this::tickTower);
+    }
+
+    /**
+     * Registers an action to be ticked on the simulation thread straight after every tick of the
+     * control tower, such as an {@link AutosaveScheduler}.
+     * <p>
+     * This method may be called from any thread.
+     *
+     * @param action action to tick after each tick of the tower
+     */
+    public void addPostTickAction(Tickable action) {
+        this.postTickActions.add(action);
+    }
+
+    /**
+     * Removes an action so that it is no longer ticked after each tick of the control tower.
+     * <p>
+     * If the action was never added, no action is taken.
+     *
+     * @param action action to remove
+     */
+    public void removePostTickAction(Tickable action) {
+        this.postTickActions.remove(action);
+    }
+
+    /* Ticks the tower once, followed by each post-tick action */
+    private void tickTower() {
+        this.tower.tick();
+        for (Tickable action : this.postTickActions) {
+            action.tick();
+        }
+    }
+
+    /**
+     * Starts ticking the control tower continuously, as fast as the simulation thread allows.
+     * <p>
+     * Ticks are run in batches lasting about one frame. A single snapshot is published at the
+     * end of each batch rather than after every tick, and any other requested actions are run
+     * between batches. Calling this method while already in turbo mode has no effect.
+     */
+    public void startTurbo() {
+        this.turbo = true;
+        scheduleTurboBatch();
+    }
+
+    /**
+     * Stops ticking the control tower continuously. The batch currently running, if any, is
+     * completed and its snapshot published.
+     */
+    public void stopTurbo() {
+        this.turbo = false;
+    }
+
+    /**
+     * Returns whether the control tower is being ticked continuously.
+     *
+     * @return true if in turbo mode; false otherwise
+     */
+    public boolean isTurbo() {
+        return this.turbo;
+    }
+
+    /* Schedules a batch of turbo ticks, unless one is already waiting to run */
+    private void scheduleTurboBatch() {
+        if (this.turbo && !this.executor.isShutdown()
+                && this.turboBatchScheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::runTurboBatch);
+            } catch (RejectedExecutionException e) {
+                //shut down since checking, so there is nothing left to tick
+                this.turboBatchScheduled.set(false);
+            }
+        }
+    }
+
+    /* Ticks the tower for up to one batch, publishes a snapshot and schedules the next batch */
+    private void runTurboBatch() {
+        this.turboBatchScheduled.set(false);
+        if (!this.turbo) {
+            return;
+        }
+        long batchEnd = System.nanoTime() + TURBO_BATCH_NANOS;
+        try {
+            do {
+                tickTower();
+            } while (this.turbo && System.nanoTime() < batchEnd);
+        } finally {
+            publishSnapshot();
+        }
+        scheduleTurboBatch();
+    }
+
+    /**
+     * Runs the given action on the simulation thread and publishes a new snapshot once it is
+     * complete, even if the action throws an exception.
+     *
+     * @param action action that reads or modifies the control tower
+     */
+    public void execute(Runnable action) {
+        this.executor.execute(() -> {
+            try {
+                action.run();
+            } finally {
+                publishSnapshot();
+            }
+        });
+    }
+
+    /**
+     * Runs the given action on the simulation thread and returns a future holding its result.
+     * A new snapshot is published once the action is complete.
+     * <p>
+     * If this method is called from the simulation thread itself, the action is run
+     * immediately so that waiting on the returned future cannot deadlock.
+     *
+     * @param action action that reads or modifies the control tower
+     * @param <T> type of the action's result
+     *
+     * @return future holding the result of the action
+     */
+    public <T> Future<T> submit(Callable<T> action) {
+        Callable<T> publishingAction = () -> {
+            try {
+                return action.call();
+            } finally {
+                publishSnapshot();
+            }
+        };
+        if (isSimulationThread()) {
+            FutureTask<T> task = new FutureTask<>(publishingAction);
+            task.run();
+            return task;
+        }
+        return this.executor.submit(publishingAction);
+    }
+
+    /**
+     * Returns whether the calling thread is the simulation thread.
+     *
+     * @return true if called from the simulation thread; false otherwise
+     */
+    public boolean isSimulationThread() {
+        return Thread.currentThread() == this.simulationThread;
+    }
+
+    /**
+     * Stops the simulation thread once all previously requested actions have been run, and
+     * closes the control tower's event stream.
+     */
+    public void shutdown() {
+        this.turbo = false;
+        //only the first call may queue closing the events, as later calls would be rejected
+        if (this.shutDown.compareAndSet(false, true)) {
+            this.executor.execute(this.tower::closeEvents);
+            this.executor.shutdown();
+        }
+    }
+
+    /* Takes a snapshot of the tower and makes it visible to other threads */
+    private void publishSnapshot() {
+        this.latestSnapshot.set(new TowerSnapshot(this.tower, this.queueLength));
+    }
+}
@@ -2,8 +2,11 @@ package towersim.control;
 
 import towersim.aircraft.Aircraft;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 /**
@@ -19,11 +22,18 @@ public class TakeoffQueue extends AircraftQueue {
      */
     private Queue<Aircraft> takeoffQueue;
 
+    /**
+     * Number of times each aircraft appears in the queue, used to answer containsAircraft() and
+     * to keep count on removal without searching the queue
+     */
+    private final Map<Aircraft, Integer> queuedCounts;
+
     /**
      * Constructs a new TakeoffQueue with an initially empty queue of aircraft.
      */
     public TakeoffQueue() {
         this.takeoffQueue = new LinkedList<>();
+        this.queuedCounts = new HashMap<>();
     }
 
     /**
@@ -34,6 +44,7 @@ public class TakeoffQueue extends AircraftQueue {
     @Override
     public void addAircraft(Aircraft aircraft) {
         this.takeoffQueue.add(aircraft);
+        this.queuedCounts.merge(aircraft, 1, Integer::sum);
     }
 
     /**
@@ -60,6 +71,8 @@ public class TakeoffQueue extends AircraftQueue {
         Aircraft removeAircraft = this.peekAircraft();
         if (removeAircraft != null) {
             this.takeoffQueue.remove(removeAircraft);
+            this.queuedCounts.computeIfPresent(removeAircraft,
+                    (aircraft, count) -> count == 1 ? null : count - 1);
         }
         return removeAircraft;
     }
@@ -75,15 +88,28 @@ public class TakeoffQueue extends AircraftQueue {
      */
     @Override
     public List<Aircraft> getAircraftInOrder() {
-        List<Aircraft> aircraftInOrder = new LinkedList<>();
+        return new ArrayList<>(this.takeoffQueue);
+    }
 
-        TakeoffQueue takeoffQueueCopy = new TakeoffQueue();
-        for (Aircraft aircraft : this.takeoffQueue) {
-            takeoffQueueCopy.addAircraft(aircraft);
+    /**
+     * Returns a list containing the first k aircraft in the queue, in the order they were added.
+     *
+     * @param k maximum number of aircraft to return
+     *
+     * @return list of at most k aircraft at the front of the queue, in queue order
+     * @throws IllegalArgumentException if k is negative
+     */
+    @Override
+    public List<Aircraft> firstK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
         }
-
-        for (int i = 0; i < this.takeoffQueue.size(); i++) {
-            aircraftInOrder.add(takeoffQueueCopy.removeAircraft());
+        List<Aircraft> aircraftInOrder = new ArrayList<>(Math.min(k, this.takeoffQueue.size()));
+        for (Aircraft aircraft : this.takeoffQueue) {
+            if (aircraftInOrder.size() == k) {
+                break;
+            }
+            aircraftInOrder.add(aircraft);
         }
         return aircraftInOrder;
     }
@@ -97,6 +123,6 @@ public class TakeoffQueue extends AircraftQueue {
      */
     @Override
     public boolean containsAircraft(Aircraft aircraft) {
-        return this.takeoffQueue.contains(aircraft);
+        return this.queuedCounts.containsKey(aircraft);
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+
+import java.util.Objects;
+
+/**
+ * Immutable record of something that happened in a control tower, published to subscribers of
+ * {@link ControlTower#getEvents()}.
+ * <p>
+ * Events are published on the thread that owns the control tower but are delivered to
+ * subscribers on other threads. Subscribers may read the callsign and characteristics of the
+ * event's aircraft, which never change, but should not read any other state of the aircraft
+ * off the thread that owns the tower.
+ */
+public final class TowerEvent {
+
+    /**
+     * Kinds of event published by a control tower.
+     */
+    public enum Type {
+        /** An aircraft landed and was parked at a gate */
+        LANDED,
+        /** An aircraft took off */
+        TOOK_OFF,
+        /** An aircraft joined the landing queue */
+        QUEUED_TO_LAND,
+        /** An aircraft joined the takeoff queue */
+        QUEUED_TO_TAKE_OFF,
+        /** An aircraft started loading at its gate */
+        LOADING_STARTED,
+        /** An aircraft finished loading and left its gate */
+        LOADING_FINISHED,
+        /** An aircraft was parked at a gate, either on landing or when added to the tower */
+        GATE_ASSIGNED,
+        /** A state of emergency was declared on an aircraft or a terminal */
+        EMERGENCY_DECLARED,
+        /** A state of emergency was cleared on an aircraft or a terminal */
+        EMERGENCY_CLEARED
+    }
+
+    /** Kind of event */
+    private final Type type;
+
+    /** Number of ticks elapsed in the tower when the event happened */
+    private final long tick;
+
+    /** Aircraft the event happened to, or null if it happened to a terminal */
+    private final Aircraft aircraft;
+
+    /** Number of the terminal involved, or zero if no terminal is involved */
+    private final int terminalNumber;
+
+    /** Number of the gate involved, or zero if no gate is involved */
+    private final int gateNumber;
+
+    /**
+     * Creates a new tower event.
+     *
+     * @param type kind of event
+     * @param tick number of ticks elapsed in the tower when the event happened
+     * @param aircraft aircraft the event happened to, or null if it happened to a terminal
+     * @param terminalNumber number of the terminal involved, or zero if none
+     * @param gateNumber number of the gate involved, or zero if none
+     */
+    public TowerEvent(Type type, long tick, Aircraft aircraft, int terminalNumber,
+                      int gateNumber) {
+        this.type = Objects.requireNonNull(type);
+        this.tick = tick;
+        this.aircraft = aircraft;
+        this.terminalNumber = terminalNumber;
+        this.gateNumber = gateNumber;
+    }
+
+    /**
+     * Returns the kind of event.
+     *
+     * @return event type
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of ticks that had elapsed in the tower when the event happened.
+     *
+     * @return tick of the event
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Returns the aircraft the event happened to.
+     *
+     * @return aircraft, or null if the event happened to a terminal
+     */
+    public Aircraft getAircraft() {
+        return this.aircraft;
+    }
+
+    /**
+     * Returns the number of the terminal involved in the event, such as the terminal an
+     * aircraft landed at or the terminal on which an emergency was declared.
+     *
+     * @return terminal number, or zero if no terminal is involved
+     */
+    public int getTerminalNumber() {
+        return this.terminalNumber;
+    }
+
+    /**
+     * Returns the number of the gate involved in the event.
+     *
+     * @return gate number, or zero if no gate is involved
+     */
+    public int getGateNumber() {
+        return this.gateNumber;
+    }
+
+    /**
+     * Returns the human-readable string representation of this event.
+     * <p>
+     * The format of the string to return is
+     * <pre>tick: TYPE subject</pre>
+     * where {@code subject} is the aircraft's callsign, followed by its terminal and gate if
+     * any, or the terminal number if the event happened to a terminal. For example,
+     * {@code "12: LANDED ABC123 at terminal 1 gate 3"}.
+     *
+     * @return string representation of this event
+     */
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.tick).append(": ").append(this.type);
+        if (this.aircraft != null) {
+            string.append(' ').append(this.aircraft.getCallsign());
+            if (this.terminalNumber != 0) {
+                string.append(" at");
+            }
+        }
+        if (this.terminalNumber != 0) {
+            string.append(" terminal ").append(this.terminalNumber);
+        }
+        if (this.gateNumber != 0) {
+            string.append(" gate ").append(this.gateNumber);
+        }
+        return string.toString();
+    }
+}
@@ -0,0 +1,179 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.ground.Terminal;
+import towersim.tasks.TaskType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable encoded save of a control tower, ready to be written to the four save files.
+ * <p>
+ * The tower is encoded when the save is captured, so a save captured between ticks is a
+ * consistent picture of the tower that can be written out on any thread while the simulation
+ * carries on. The contents of each file match the format read by
+ * {@link ControlTowerInitialiser#createControlTower(java.io.Reader, java.io.Reader,
+ * java.io.Reader, java.io.Reader)}.
+ * <p>
+ * The tick file also carries a checksum of the save on its second line, in the form
+ * <pre>checksum:hexDigits</pre>
+ * which lets {@link ControlTowerInitialiser#createControlTowerTrusted(java.io.Reader,
+ * java.io.Reader, java.io.Reader, java.io.Reader)} recognise an unmodified save. Loaders that
+ * only read the first line of the tick file are unaffected.
+ */
+public final class TowerSave {
+
+    /** Number of files in a save */
+    public static final int NUM_FILES = 4;
+
+    /** Prefix of the checksum line in the tick file */
+    public static final String CHECKSUM_PREFIX = "checksum:";
+
+    /** Number of ticks elapsed when the save was captured */
+    private final long ticksElapsed;
+
+    /** Contents of the tick, aircraft, queues and terminals with gates files, in that order */
+    private final List<String> contents;
+
+    private TowerSave(long ticksElapsed, List<String> contents) {
+        this.ticksElapsed = ticksElapsed;
+        this.contents = contents;
+    }
+
+    /**
+     * Encodes the current state of the given control tower.
+     * <p>
+     * Must be called on the thread that owns the control tower.
+     *
+     * @param tower control tower to save
+     *
+     * @return encoded save of the tower
+     */
+    public static TowerSave capture(ControlTower tower) {
+        long ticksElapsed = tower.getTicksElapsed();
+        String ticks = String.valueOf(ticksElapsed);
+        String aircraft;
+        String queues;
+        String terminals;
+        try {
+            aircraft = encodeAircraft(tower);
+            queues = encodeQueues(tower);
+            terminals = encodeTerminals(tower);
+        } catch (IOException e) {
+            //appending to a StringBuilder never throws an IOException
+            throw new UncheckedIOException(e);
+        }
+        String tickFile = ticks + System.lineSeparator() + CHECKSUM_PREFIX
+                + computeChecksum(ticks, aircraft, queues, terminals);
+        return new TowerSave(ticksElapsed, List.of(tickFile, aircraft, queues, terminals));
+    }
+
+    /**
+     * Computes the checksum of a save from the number of ticks elapsed, as written on the first
+     * line of the tick file, and the full contents of the other three files.
+     *
+     * @param ticks first line of the tick file
+     * @param aircraft contents of the aircraft file
+     * @param queues contents of the queues file
+     * @param terminals contents of the terminals with gates file
+     *
+     * @return checksum as a string of hexadecimal digits
+     */
+    public static String computeChecksum(String ticks, String aircraft, String queues,
+                                         String terminals) {
+        CRC32 checksum = new CRC32();
+        for (String part : List.of(ticks, aircraft, queues, terminals)) {
+            checksum.update(part.getBytes(StandardCharsets.UTF_8));
+            //separates the parts, so text moved between files changes the checksum
+            checksum.update(0);
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+
+    /* Encodes the number of aircraft followed by each aircraft */
+    private static String encodeAircraft(ControlTower tower) throws IOException {
+        StringBuilder encodedAircraftList = new StringBuilder();
+        encodedAircraftList.append(tower.getAircraftView().size());
+        for (Aircraft aircraft : tower.getAircraftView()) {
+            encodedAircraftList.append(System.lineSeparator());
+            aircraft.encodeTo(encodedAircraftList);
+        }
+        return encodedAircraftList.toString();
+    }
+
+    /* Encodes the takeoff queue, landing queue and loading aircraft */
+    private static String encodeQueues(ControlTower tower) throws IOException {
+        //encodedTakeoffQueue
+        TakeoffQueue takeoffQueue = new TakeoffQueue();
+        for (Aircraft aircraftTakeOff : tower.getAircraftWithTask(TaskType.TAKEOFF)) {
+            takeoffQueue.addAircraft(aircraftTakeOff);
+        }
+        //encodedLandingQueue
+        LandingQueue landingQueue = new LandingQueue();
+        for (Aircraft aircraftLanding : tower.getAircraftWithTask(TaskType.LAND)) {
+            landingQueue.addAircraft(aircraftLanding);
+        }
+        StringBuilder queues = new StringBuilder();
+        takeoffQueue.encodeTo(queues);
+        queues.append(System.lineSeparator());
+        landingQueue.encodeTo(queues);
+        queues.append(System.lineSeparator()).append("LoadingAircraft:")
+                .append(tower.getLoadingAircraft().size());
+        //String reprsentation of callsignN:ticksRemainingN, only added if any are loading
+        String separator = System.lineSeparator();
+        for (Map.Entry<Aircraft, Integer> entry : tower.getLoadingAircraft().entrySet()) {
+            queues.append(separator).append(entry.getKey().getCallsign()).append(':')
+                    .append(entry.getValue().intValue());
+            separator = ",";
+        }
+        return queues.toString();
+    }
+
+    /* Encodes the number of terminals followed by each terminal and its gates */
+    private static String encodeTerminals(ControlTower tower) throws IOException {
+        StringBuilder terminalsEncoded = new StringBuilder();
+        terminalsEncoded.append(tower.getTerminalsView().size());
+        for (Terminal terminal : tower.getTerminalsView()) {
+            terminalsEncoded.append(System.lineSeparator());
+            terminal.encodeTo(terminalsEncoded);
+        }
+        return terminalsEncoded.toString();
+    }
+
+    /**
+     * Returns the number of ticks that had elapsed when the save was captured.
+     *
+     * @return ticks elapsed
+     */
+    public long getTicksElapsed() {
+        return this.ticksElapsed;
+    }
+
+    /**
+     * Returns the contents of the tick, aircraft, queues and terminals with gates files, in that
+     * order.
+     *
+     * @return unmodifiable list of {@link #NUM_FILES} file contents
+     */
+    public List<String> getContents() {
+        return this.contents;
+    }
+
+    /**
+     * Returns the total number of characters in all files of the save.
+     *
+     * @return length of the save
+     */
+    public long getLength() {
+        long length = 0;
+        for (String content : this.contents) {
+            length += content.length();
+        }
+        return length;
+    }
+}
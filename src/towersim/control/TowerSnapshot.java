@@ -0,0 +1,624 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable record of the state of a control tower at the end of a tick.
+ * <p>
+ * A snapshot is taken on the thread that owns the control tower and may then be read from any
+ * other thread without synchronisation. Apart from the aircraft and terminal handles, which are
+ * provided only to identify the aircraft and terminals the states belong to, and the task lists
+ * of aircraft, whose unchanging tasks are read only to encode them on demand, nothing in a
+ * snapshot refers to mutable model objects.
+ * <p>
+ * Taking a snapshot records a state for every aircraft, as the tables may show any of them, but
+ * no state builds strings, and only as many aircraft with each type of current task are recorded
+ * as the front of each queue.
+ */
+public final class TowerSnapshot {
+
+    /** Number of ticks elapsed when the snapshot was taken */
+    private final long ticksElapsed;
+
+    /** States of all aircraft managed by the tower, in the order they were added */
+    private final List<AircraftState> aircraft;
+
+    /** States of all aircraft managed by the tower, keyed by aircraft */
+    private final Map<Aircraft, AircraftState> aircraftStates;
+
+    /** States of the first aircraft with each type of current task */
+    private final Map<TaskType, List<AircraftState>> aircraftByTask;
+
+    /** States of the aircraft at the front of the takeoff queue, in queue order */
+    private final List<AircraftState> takeoffQueue;
+
+    /** States of the aircraft at the front of the landing queue, in queue order */
+    private final List<AircraftState> landingQueue;
+
+    /** States of all terminals managed by the tower, in the order they were added */
+    private final List<TerminalState> terminals;
+
+    /** State of the aircraft landed during the tick, or null if none */
+    private final AircraftState aircraftLanded;
+
+    /** State of the aircraft that took off during the tick, or null if none */
+    private final AircraftState aircraftTookOff;
+
+    /** States of the aircraft currently loading at a gate */
+    private final List<LoadingState> loadingAircraft;
+
+    /** States of the aircraft currently loading at a gate, keyed by aircraft */
+    private final Map<Aircraft, LoadingState> loadingStates;
+
+    /**
+     * Takes a snapshot of the current state of the given control tower.
+     * <p>
+     * Only the first {@code queueLength} aircraft of each of the tower's queues, and with each
+     * type of current task, are recorded, so that large queues need not be ordered or copied in
+     * full. This constructor must be called from the thread that owns the control tower.
+     *
+     * @param tower control tower to take a snapshot of
+     * @param queueLength maximum number of aircraft to record from the front of each queue and
+     *                    with each type of current task
+     */
+    public TowerSnapshot(ControlTower tower, int queueLength) {
+        this.ticksElapsed = tower.getTicksElapsed();
+
+        Map<Aircraft, AircraftState> states = new HashMap<>();
+        List<AircraftState> allAircraft = new ArrayList<>(tower.getAircraftView().size());
+        for (Aircraft managedAircraft : tower.getAircraftView()) {
+            AircraftState state = new AircraftState(managedAircraft);
+            states.put(managedAircraft, state);
+            allAircraft.add(state);
+        }
+        this.aircraftStates = Collections.unmodifiableMap(states);
+        this.aircraft = Collections.unmodifiableList(allAircraft);
+
+        Map<TaskType, List<AircraftState>> byTask = new EnumMap<>(TaskType.class);
+        for (TaskType taskType : TaskType.values()) {
+            byTask.put(taskType, statesOf(tower.getAircraftWithTask(taskType), queueLength));
+        }
+        this.aircraftByTask = Collections.unmodifiableMap(byTask);
+
+        this.aircraftLanded = tower.getAircraftLanded() == null
+                ? null : stateOf(tower.getAircraftLanded());
+        this.aircraftTookOff = tower.getAircraftTookOff() == null
+                ? null : stateOf(tower.getAircraftTookOff());
+        this.takeoffQueue = statesOf(tower.getTakeoffQueue().firstK(queueLength), queueLength);
+        this.landingQueue = statesOf(tower.getLandingQueue().firstK(queueLength), queueLength);
+
+        //gate numbers of parked aircraft, so loading aircraft need not search for their gate
+        Map<Aircraft, Integer> gateNumbers = new IdentityHashMap<>();
+        List<TerminalState> terminalStates = new ArrayList<>(tower.getTerminalsView().size());
+        for (Terminal terminal : tower.getTerminalsView()) {
+            List<GateState> gateStates = new ArrayList<>(terminal.getGates().size());
+            for (Gate gate : terminal.getGates()) {
+                AircraftState parked = null;
+                if (gate.isOccupied()) {
+                    parked = stateOf(gate.getAircraftAtGate());
+                    gateNumbers.put(gate.getAircraftAtGate(), gate.getGateNumber());
+                }
+                gateStates.add(new GateState(gate.getGateNumber(), parked));
+            }
+            terminalStates.add(new TerminalState(terminal, gateStates));
+        }
+        this.terminals = Collections.unmodifiableList(terminalStates);
+
+        List<LoadingState> loading = new ArrayList<>(tower.getLoadingAircraft().size());
+        Map<Aircraft, LoadingState> loadingByAircraft = new HashMap<>();
+        for (Map.Entry<Aircraft, Integer> entry : tower.getLoadingAircraft().entrySet()) {
+            Integer gateNumber = gateNumbers.get(entry.getKey());
+            LoadingState state = new LoadingState(stateOf(entry.getKey()),
+                    gateNumber == null ? -1 : gateNumber, entry.getValue());
+            loading.add(state);
+            loadingByAircraft.put(entry.getKey(), state);
+        }
+        this.loadingAircraft = Collections.unmodifiableList(loading);
+        this.loadingStates = Collections.unmodifiableMap(loadingByAircraft);
+    }
+
+    /* Returns the state of the given aircraft, taking one if it is not managed by the tower */
+    private AircraftState stateOf(Aircraft managedAircraft) {
+        AircraftState state = this.aircraftStates.get(managedAircraft);
+        return state != null ? state : new AircraftState(managedAircraft);
+    }
+
+    /* Returns an unmodifiable list of the states of up to limit of the given aircraft, in order */
+    private List<AircraftState> statesOf(Iterable<Aircraft> aircraftToFind, int limit) {
+        List<AircraftState> states = new ArrayList<>(Math.min(limit, 16));
+        for (Aircraft aircraftToAdd : aircraftToFind) {
+            if (states.size() == limit) {
+                break;
+            }
+            states.add(stateOf(aircraftToAdd));
+        }
+        return Collections.unmodifiableList(states);
+    }
+
+    /**
+     * Returns the number of ticks that had elapsed when this snapshot was taken.
+     *
+     * @return number of ticks elapsed
+     */
+    public long getTicksElapsed() {
+        return this.ticksElapsed;
+    }
+
+    /**
+     * Returns the states of all aircraft managed by the tower, in the order they were added.
+     *
+     * @return unmodifiable list of aircraft states
+     */
+    public List<AircraftState> getAircraft() {
+        return this.aircraft;
+    }
+
+    /**
+     * Returns the state of the given aircraft when this snapshot was taken, or null if the
+     * aircraft was not managed by the tower.
+     *
+     * @param aircraftToFind aircraft to find the state of
+     *
+     * @return state of the aircraft, or null if not managed by the tower
+     */
+    public AircraftState getAircraftState(Aircraft aircraftToFind) {
+        return this.aircraftStates.get(aircraftToFind);
+    }
+
+    /**
+     * Returns the states of the first aircraft whose current task was of the given type, in the
+     * same order as {@link ControlTower#getAircraftWithTask(TaskType)}. No more aircraft are
+     * recorded than from the front of each queue.
+     *
+     * @param taskType type of current task to find aircraft for
+     *
+     * @return unmodifiable list of aircraft states
+     */
+    public List<AircraftState> getAircraftWithTask(TaskType taskType) {
+        return this.aircraftByTask.get(taskType);
+    }
+
+    /**
+     * Returns the state of the aircraft landed during the tick that ended when this snapshot was
+     * taken, as returned by {@link ControlTower#getAircraftLanded()}.
+     *
+     * @return state of the landed aircraft, or null if no aircraft landed
+     */
+    public AircraftState getAircraftLanded() {
+        return this.aircraftLanded;
+    }
+
+    /**
+     * Returns the state of the aircraft that took off during the tick that ended when this
+     * snapshot was taken, as returned by {@link ControlTower#getAircraftTookOff()}.
+     *
+     * @return state of the aircraft that took off, or null if no aircraft took off
+     */
+    public AircraftState getAircraftTookOff() {
+        return this.aircraftTookOff;
+    }
+
+    /**
+     * Returns the states of the aircraft at the front of the takeoff queue, in queue order.
+     *
+     * @return unmodifiable list of aircraft states
+     */
+    public List<AircraftState> getTakeoffQueue() {
+        return this.takeoffQueue;
+    }
+
+    /**
+     * Returns the states of the aircraft at the front of the landing queue, in queue order.
+     *
+     * @return unmodifiable list of aircraft states
+     */
+    public List<AircraftState> getLandingQueue() {
+        return this.landingQueue;
+    }
+
+    /**
+     * Returns the states of all terminals managed by the tower, in the order they were added.
+     *
+     * @return unmodifiable list of terminal states
+     */
+    public List<TerminalState> getTerminals() {
+        return this.terminals;
+    }
+
+    /**
+     * Returns the states of the aircraft loading at a gate, in the same order as
+     * {@link ControlTower#getLoadingAircraft()}.
+     *
+     * @return unmodifiable list of loading states
+     */
+    public List<LoadingState> getLoadingAircraft() {
+        return this.loadingAircraft;
+    }
+
+    /**
+     * Returns the loading state of the given aircraft when this snapshot was taken, or null if
+     * the aircraft was not loading at a gate.
+     *
+     * @param aircraftToFind aircraft to find the loading state of
+     *
+     * @return loading state of the aircraft, or null if it was not loading
+     */
+    public LoadingState getLoadingState(Aircraft aircraftToFind) {
+        return this.loadingStates.get(aircraftToFind);
+    }
+
+    /**
+     * Immutable state of a single aircraft.
+     */
+    public static final class AircraftState {
+
+        /** Aircraft this state belongs to */
+        private final Aircraft aircraft;
+
+        /** Callsign of the aircraft */
+        private final String callsign;
+
+        /** Characteristics of the aircraft */
+        private final AircraftCharacteristics characteristics;
+
+        /** Simple class name of the aircraft, describing its cargo type */
+        private final String cargoType;
+
+        /** Whether the aircraft carries passengers */
+        private final boolean passenger;
+
+        /** Percentage of fuel remaining */
+        private final int fuelPercentRemaining;
+
+        /** Percentage of cargo capacity occupied */
+        private final int occupancyLevel;
+
+        /** Whether the aircraft was in a state of emergency */
+        private final boolean emergency;
+
+        /** Current task of the aircraft */
+        private final Task currentTask;
+
+        /** Task list of the aircraft, read only to encode it */
+        private final TaskList taskList;
+
+        /** Index of the current task in the aircraft's task list */
+        private final int currentTaskIndex;
+
+        private AircraftState(Aircraft aircraft) {
+            this.aircraft = aircraft;
+            this.callsign = aircraft.getCallsign();
+            this.characteristics = aircraft.getCharacteristics();
+            this.cargoType = aircraft.getClass().getSimpleName();
+            this.passenger = aircraft instanceof PassengerAircraft;
+            this.fuelPercentRemaining = aircraft.getFuelPercentRemaining();
+            this.occupancyLevel = aircraft.calculateOccupancyLevel();
+            this.emergency = aircraft.hasEmergency();
+            this.taskList = aircraft.getTaskList();
+            this.currentTask = this.taskList.getCurrentTask();
+            this.currentTaskIndex = this.taskList.getCurrentTaskIndex();
+        }
+
+        /**
+         * Returns the aircraft this state belongs to.
+         * <p>
+         * The aircraft may only be used to identify the aircraft; its mutable state must not be
+         * read outside the thread that owns the control tower.
+         *
+         * @return aircraft
+         */
+        public Aircraft getAircraft() {
+            return this.aircraft;
+        }
+
+        /**
+         * Returns the callsign of the aircraft.
+         *
+         * @return callsign
+         */
+        public String getCallsign() {
+            return this.callsign;
+        }
+
+        /**
+         * Returns the characteristics of the aircraft.
+         *
+         * @return aircraft characteristics
+         */
+        public AircraftCharacteristics getCharacteristics() {
+            return this.characteristics;
+        }
+
+        /**
+         * Returns the simple class name of the aircraft, e.g. PassengerAircraft.
+         *
+         * @return cargo type of the aircraft
+         */
+        public String getCargoType() {
+            return this.cargoType;
+        }
+
+        /**
+         * Returns whether the aircraft carries passengers.
+         *
+         * @return true if the aircraft is a passenger aircraft; false otherwise
+         */
+        public boolean isPassenger() {
+            return this.passenger;
+        }
+
+        /**
+         * Returns the percentage of fuel remaining in the aircraft.
+         *
+         * @return percentage of fuel remaining
+         */
+        public int getFuelPercentRemaining() {
+            return this.fuelPercentRemaining;
+        }
+
+        /**
+         * Returns the percentage of the aircraft's cargo capacity that was occupied.
+         *
+         * @return occupancy level
+         */
+        public int getOccupancyLevel() {
+            return this.occupancyLevel;
+        }
+
+        /**
+         * Returns whether the aircraft was in a state of emergency.
+         *
+         * @return true if in emergency; false otherwise
+         */
+        public boolean hasEmergency() {
+            return this.emergency;
+        }
+
+        /**
+         * Returns the current task of the aircraft.
+         *
+         * @return current task
+         */
+        public Task getCurrentTask() {
+            return this.currentTask;
+        }
+
+        /**
+         * Returns the encoded representation of the aircraft's task list as it was when the
+         * snapshot was taken.
+         * <p>
+         * The task list is encoded each time this method is called.
+         *
+         * @return encoded task list
+         */
+        public String getEncodedTaskList() {
+            return this.taskList.encodeFrom(this.currentTaskIndex);
+        }
+    }
+
+    /**
+     * Immutable state of a single gate.
+     */
+    public static final class GateState {
+
+        /** Number of the gate */
+        private final int gateNumber;
+
+        /** State of the aircraft parked at the gate, or null if unoccupied */
+        private final AircraftState aircraftAtGate;
+
+        private GateState(int gateNumber, AircraftState aircraftAtGate) {
+            this.gateNumber = gateNumber;
+            this.aircraftAtGate = aircraftAtGate;
+        }
+
+        /**
+         * Returns the number of the gate.
+         *
+         * @return gate number
+         */
+        public int getGateNumber() {
+            return this.gateNumber;
+        }
+
+        /**
+         * Returns whether an aircraft was parked at the gate.
+         *
+         * @return true if occupied; false otherwise
+         */
+        public boolean isOccupied() {
+            return this.aircraftAtGate != null;
+        }
+
+        /**
+         * Returns the state of the aircraft parked at the gate, or null if unoccupied.
+         *
+         * @return state of parked aircraft
+         */
+        public AircraftState getAircraftAtGate() {
+            return this.aircraftAtGate;
+        }
+    }
+
+    /**
+     * Immutable state of a single terminal and its gates.
+     */
+    public static final class TerminalState {
+
+        /** Terminal this state belongs to */
+        private final Terminal terminal;
+
+        /** Number of the terminal */
+        private final int terminalNumber;
+
+        /** Simple class name of the terminal, e.g. AirplaneTerminal */
+        private final String terminalType;
+
+        /** Human-readable description of the terminal */
+        private final String description;
+
+        /** Whether the terminal was in a state of emergency */
+        private final boolean emergency;
+
+        /** Percentage of the terminal's gates that were occupied */
+        private final int occupancyLevel;
+
+        /** Maximum number of gates that may be added to the terminal */
+        private final int gateCapacity;
+
+        /** States of the terminal's gates, in the order they were added */
+        private final List<GateState> gates;
+
+        private TerminalState(Terminal terminal, List<GateState> gates) {
+            this.terminal = terminal;
+            this.terminalNumber = terminal.getTerminalNumber();
+            this.terminalType = terminal.getClass().getSimpleName();
+            this.description = terminal.toString();
+            this.emergency = terminal.hasEmergency();
+            this.occupancyLevel = terminal.calculateOccupancyLevel();
+            this.gateCapacity = terminal.getGateCapacity();
+            this.gates = Collections.unmodifiableList(gates);
+        }
+
+        /**
+         * Returns the terminal this state belongs to.
+         * <p>
+         * The terminal may only be used to identify the terminal; its mutable state must not be
+         * read outside the thread that owns the control tower.
+         *
+         * @return terminal
+         */
+        public Terminal getTerminal() {
+            return this.terminal;
+        }
+
+        /**
+         * Returns the number of the terminal.
+         *
+         * @return terminal number
+         */
+        public int getTerminalNumber() {
+            return this.terminalNumber;
+        }
+
+        /**
+         * Returns the simple class name of the terminal, e.g. AirplaneTerminal.
+         *
+         * @return terminal type
+         */
+        public String getTerminalType() {
+            return this.terminalType;
+        }
+
+        /**
+         * Returns whether the terminal was in a state of emergency.
+         *
+         * @return true if in emergency; false otherwise
+         */
+        public boolean hasEmergency() {
+            return this.emergency;
+        }
+
+        /**
+         * Returns the percentage of the terminal's gates that were occupied.
+         *
+         * @return occupancy level
+         */
+        public int getOccupancyLevel() {
+            return this.occupancyLevel;
+        }
+
+        /**
+         * Returns the maximum number of gates that may be added to the terminal.
+         *
+         * @return gate capacity
+         */
+        public int getGateCapacity() {
+            return this.gateCapacity;
+        }
+
+        /**
+         * Returns the states of the terminal's gates, in the order they were added.
+         *
+         * @return unmodifiable list of gate states
+         */
+        public List<GateState> getGates() {
+            return this.gates;
+        }
+
+        /**
+         * Returns the human-readable representation of the terminal, as returned by
+         * {@link Terminal#toString()} when the snapshot was taken.
+         *
+         * @return string representation of the terminal
+         */
+        @Override
+        public String toString() {
+            return this.description;
+        }
+    }
+
+    /**
+     * Immutable state of an aircraft loading at a gate.
+     */
+    public static final class LoadingState {
+
+        /** State of the loading aircraft */
+        private final AircraftState aircraft;
+
+        /** Number of the gate the aircraft is loading at, or -1 if it is not at a gate */
+        private final int gateNumber;
+
+        /** Number of ticks remaining in the loading process */
+        private final int ticksRemaining;
+
+        private LoadingState(AircraftState aircraft, int gateNumber, int ticksRemaining) {
+            this.aircraft = aircraft;
+            this.gateNumber = gateNumber;
+            this.ticksRemaining = ticksRemaining;
+        }
+
+        /**
+         * Returns the state of the loading aircraft.
+         *
+         * @return aircraft state
+         */
+        public AircraftState getAircraft() {
+            return this.aircraft;
+        }
+
+        /**
+         * Returns the number of the gate the aircraft is loading at, or -1 if it is not at a
+         * gate.
+         *
+         * @return gate number
+         */
+        public int getGateNumber() {
+            return this.gateNumber;
+        }
+
+        /**
+         * Returns the number of ticks remaining in the loading process.
+         *
+         * @return ticks remaining
+         */
+        public int getTicksRemaining() {
+            return this.ticksRemaining;
+        }
+    }
+}
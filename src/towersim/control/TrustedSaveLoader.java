@@ -0,0 +1,188 @@
+package towersim.control;
+
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftRegistry;
+import towersim.aircraft.FreightAircraft;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.HelicopterTerminal;
+import towersim.ground.Terminal;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds a control tower directly from the contents of a save that is known to have been written
+ * by {@link TowerSave}.
+ * <p>
+ * None of the checks made by {@link ControlTowerInitialiser} are repeated: counts are not
+ * compared against the number of lines, and callsigns are found in a hash map rather than
+ * checked against the list of aircraft. Contents that were not written by TowerSave may cause
+ * any runtime exception to be thrown. So do saves in which aircraft share a callsign, as every
+ * aircraft with a queued or parked callsign must then be found as ControlTowerInitialiser does.
+ */
+final class TrustedSaveLoader {
+
+    private TrustedSaveLoader() {
+    }
+
+    /**
+     * Creates a control tower from the given save contents.
+     *
+     * @param ticks first line of the tick file
+     * @param aircraft contents of the aircraft file
+     * @param queues contents of the queues file
+     * @param terminals contents of the terminals with gates file
+     *
+     * @return control tower described by the save
+     * @throws RuntimeException if the contents are not a save written by TowerSave
+     */
+    static ControlTower load(String ticks, String aircraft, String queues, String terminals) {
+        return load(ticks, aircraft.lines().iterator(), queues.lines().iterator(),
+                terminals.lines().iterator());
+    }
+
+    /**
+     * Creates a control tower from the lines of a save, reading each file's lines in turn so
+     * that they can be streamed. Every line of the aircraft file is read before any line of the
+     * queues file, and every line of the queues file before any line of the terminals file.
+     *
+     * @param ticks first line of the tick file
+     * @param aircraftLines lines of the aircraft file
+     * @param queueLines lines of the queues file
+     * @param terminalLines lines of the terminals with gates file
+     *
+     * @return control tower described by the save
+     * @throws RuntimeException if the lines are not a save written by TowerSave
+     */
+    static ControlTower load(String ticks, Iterator<String> aircraftLines,
+                             Iterator<String> queueLines, Iterator<String> terminalLines) {
+        List<Aircraft> aircraftLoaded = new ArrayList<>();
+        Map<String, Aircraft> aircraftByCallsign = new HashMap<>();
+        aircraftLines.next();
+        while (aircraftLines.hasNext()) {
+            Aircraft decoded = decodeAircraft(aircraftLines.next());
+            aircraftLoaded.add(decoded);
+            if (aircraftByCallsign.putIfAbsent(decoded.getCallsign(), decoded) != null) {
+                //callsigns shared by several aircraft are resolved by the validating loader
+                throw new IllegalStateException("Duplicate callsign " + decoded.getCallsign());
+            }
+        }
+
+        TakeoffQueue takeoffQueue = new TakeoffQueue();
+        LandingQueue landingQueue = new LandingQueue();
+        Map<Aircraft, Integer> loadingAircraft = new TreeMap<>(AircraftRegistry.CALLSIGN_ORDER);
+        decodeQueue(queueLines, aircraftByCallsign, takeoffQueue);
+        decodeQueue(queueLines, aircraftByCallsign, landingQueue);
+        queueLines.next();
+        while (queueLines.hasNext()) {
+            for (String loading : queueLines.next().split(",")) {
+                int colon = loading.indexOf(':');
+                loadingAircraft.put(find(aircraftByCallsign, loading.substring(0, colon)),
+                        Integer.parseInt(loading.substring(colon + 1)));
+            }
+        }
+
+        ControlTower tower = new ControlTower(Long.parseLong(ticks), aircraftLoaded,
+                landingQueue, takeoffQueue, loadingAircraft);
+        terminalLines.next();
+        while (terminalLines.hasNext()) {
+            tower.addTerminal(decodeTerminal(terminalLines, aircraftByCallsign));
+        }
+        return tower;
+    }
+
+    /* Decodes an aircraft in the format of Aircraft.encode() */
+    private static Aircraft decodeAircraft(String line) {
+        String[] parts = line.split(":");
+        AircraftCharacteristics characteristics = AircraftCharacteristics.valueOf(parts[1]);
+        TaskList taskList = decodeTaskList(parts[2]);
+        double fuelAmount = Double.parseDouble(parts[3]);
+        int cargo = Integer.parseInt(parts[5]);
+        //aircraft that can carry passengers are passenger aircraft, as documented in readAircraft
+        Aircraft decoded = characteristics.passengerCapacity > 0
+                ? new PassengerAircraft(parts[0], characteristics, taskList, fuelAmount, cargo)
+                : new FreightAircraft(parts[0], characteristics, taskList, fuelAmount, cargo);
+        if (Boolean.parseBoolean(parts[4])) {
+            decoded.declareEmergency();
+        }
+        return decoded;
+    }
+
+    /* Decodes a task list in the format of TaskList.encode() */
+    private static TaskList decodeTaskList(String encoded) {
+        List<Task> tasks = new ArrayList<>();
+        for (String task : encoded.split(",")) {
+            int at = task.indexOf('@');
+            if (at < 0) {
+                tasks.add(new Task(TaskType.valueOf(task)));
+            } else {
+                tasks.add(new Task(TaskType.valueOf(task.substring(0, at)),
+                        Integer.parseInt(task.substring(at + 1))));
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    /* Decodes a queue in the format of AircraftQueue.encode() into the given empty queue */
+    private static void decodeQueue(Iterator<String> lines, Map<String, Aircraft> aircraft,
+                                    AircraftQueue queue) {
+        String header = lines.next();
+        if (Integer.parseInt(header.substring(header.indexOf(':') + 1)) == 0) {
+            return;
+        }
+        for (String callsign : lines.next().split(",")) {
+            queue.addAircraft(find(aircraft, callsign));
+        }
+    }
+
+    /* Returns the aircraft with the given callsign, which must exist */
+    private static Aircraft find(Map<String, Aircraft> aircraft, String callsign) {
+        Aircraft found = aircraft.get(callsign);
+        if (found == null) {
+            throw new IllegalStateException("No aircraft with callsign " + callsign);
+        }
+        return found;
+    }
+
+    /* Decodes a terminal and its gates in the format of Terminal.encode() */
+    private static Terminal decodeTerminal(Iterator<String> lines,
+                                           Map<String, Aircraft> aircraft) {
+        String[] parts = lines.next().split(":");
+        int terminalNumber = Integer.parseInt(parts[1]);
+        int numGates = Integer.parseInt(parts[3]);
+        int gateCapacity = parts.length > 4
+                ? Integer.parseInt(parts[4]) : Math.max(numGates, Terminal.MAX_NUM_GATES);
+        Terminal terminal = parts[0].equals("HelicopterTerminal")
+                ? new HelicopterTerminal(terminalNumber, gateCapacity)
+                : new AirplaneTerminal(terminalNumber, gateCapacity);
+        try {
+            for (int i = 0; i < numGates; i++) {
+                String gateLine = lines.next();
+                int colon = gateLine.indexOf(':');
+                Gate gate = new Gate(Integer.parseInt(gateLine.substring(0, colon)));
+                Aircraft parked = aircraft.get(gateLine.substring(colon + 1));
+                if (parked != null) {
+                    gate.parkAircraft(parked);
+                }
+                terminal.addGate(gate);
+            }
+        } catch (NoSpaceException e) {
+            throw new IllegalStateException(e);
+        }
+        if (Boolean.parseBoolean(parts[2])) {
+            terminal.declareEmergency();
+        }
+        return terminal;
+    }
+}
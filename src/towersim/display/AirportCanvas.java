@@ -8,25 +8,27 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 import towersim.aircraft.Aircraft;
-import towersim.aircraft.PassengerAircraft;
-import towersim.control.AircraftQueue;
-import towersim.control.TakeoffQueue;
-import towersim.ground.Gate;
-import towersim.ground.Terminal;
+import towersim.aircraft.AircraftType;
+import towersim.control.TowerSnapshot;
+import towersim.control.TowerSnapshot.AircraftState;
+import towersim.control.TowerSnapshot.GateState;
+import towersim.control.TowerSnapshot.TerminalState;
 import towersim.tasks.Task;
 import towersim.tasks.TaskType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Subclass of the JavaFX Canvas to represent the main elements of the airport graphically.
@@ -37,12 +39,66 @@ public class AirportCanvas extends Canvas {
     /** View model containing the main model of the application */
     private final ViewModel viewModel;
 
-    /** Mapping of clickable regions (rectangles) to aircraft drawn on the canvas */
-    private final Map<ClickableRegion, Aircraft> drawnAircraft;
+    /** Spatial index of the clickable regions (rectangles) of aircraft drawn on the canvas */
+    private final RegionIndex<Aircraft> drawnAircraft;
 
     /** Width of an aircraft when drawn on the canvas, in pixels */
     private static final double AIRCRAFT_WIDTH = 75;
 
+    /** Number of aircraft shown in each queue and in the list of AWAY aircraft */
+    public static final int QUEUE_CAPACITY = 6;
+
+    /** Number of gates drawn side by side in each row of a terminal */
+    private static final int GATES_PER_ROW = 6;
+
+    /** Height of the label at the top of each terminal, in pixels */
+    private static final double TERMINAL_LABEL_HEIGHT = 25;
+
+    /** Margin around each terminal, in pixels */
+    private static final double TERMINAL_MARGIN = 5;
+
+    /** Height of the status bar at the bottom of the canvas, in pixels */
+    private static final double STATUS_BAR_HEIGHT = 20;
+
+    /** Factor by which each step of the mouse wheel zooms the terminal area in or out */
+    private static final double ZOOM_STEP = 1.1;
+
+    /** Smallest allowed zoom level of the terminal area */
+    private static final double MIN_ZOOM = 0.25;
+
+    /** Largest allowed zoom level of the terminal area */
+    private static final double MAX_ZOOM = 4;
+
+    /** Zoom level of the terminal area */
+    private double zoom = 1;
+
+    /** Horizontal scroll position of the terminal area, in world coordinates */
+    private double scrollX = 0;
+
+    /** Vertical scroll position of the terminal area, in world coordinates */
+    private double scrollY = 0;
+
+    /** Snapshot that the cached terminal layout was computed for */
+    private TowerSnapshot layoutSnapshot;
+
+    /** Cached world y-coordinates of each terminal row, followed by the total height */
+    private double[] terminalRowTops;
+
+    /** Scale applied when recording the clickable regions of aircraft being drawn */
+    private double regionScale = 1;
+
+    /** Horizontal offset applied when recording clickable regions */
+    private double regionOffsetX = 0;
+
+    /** Vertical offset applied when recording clickable regions */
+    private double regionOffsetY = 0;
+
+    /** Canvas y-coordinate above which recorded clickable regions are hidden */
+    private double regionClipTop = 0;
+
+    /** Canvas y-coordinate below which recorded clickable regions are hidden */
+    private double regionClipBottom = Double.MAX_VALUE;
+
     /** X coordinate of the top-left corner of the runway */
     private final double runwayStartX;
 
@@ -61,6 +117,12 @@ public class AirportCanvas extends Canvas {
     /** Animation timeline of an aircraft taking off */
     private final Timeline takeoffTimeline;
 
+    /** Render loop that repaints the canvas and draws the running runway animations */
+    private final FrameScheduler frameScheduler;
+
+    /** Pre-rendered aircraft sprites and text labels */
+    private final SpriteCache spriteCache;
+
     /** A class to represent a rectangular region on the canvas that responds to click events */
     private static class ClickableRegion {
 
@@ -91,6 +153,62 @@ public class AirportCanvas extends Canvas {
         }
     }
 
+    /**
+     * A uniform grid of cells that indexes clickable regions by the cells they overlap, so that
+     * finding the region under a click only examines the regions in a single cell.
+     */
+    private static class RegionIndex<T> {
+
+        /** Width and height of each grid cell, in pixels */
+        private static final double CELL_SIZE = 64;
+
+        /** Regions and their values overlapping each cell, in the order they were added */
+        private final Map<Long, List<Map.Entry<ClickableRegion, T>>> cells = new HashMap<>();
+
+        /** Removes all regions from the index */
+        public void clear() {
+            cells.clear();
+        }
+
+        /** Adds a region with the given value to every cell that it overlaps */
+        public void add(ClickableRegion region, T value) {
+            var entry = Map.entry(region, value);
+            int firstColumn = (int) Math.floor(region.xcoord / CELL_SIZE);
+            int lastColumn = (int) Math.floor((region.xcoord + region.width) / CELL_SIZE);
+            int firstRow = (int) Math.floor(region.ycoord / CELL_SIZE);
+            int lastRow = (int) Math.floor((region.ycoord + region.height) / CELL_SIZE);
+            for (int column = firstColumn; column <= lastColumn; ++column) {
+                for (int row = firstRow; row <= lastRow; ++row) {
+                    cells.computeIfAbsent(getCellKey(column, row), key -> new ArrayList<>())
+                            .add(entry);
+                }
+            }
+        }
+
+        /**
+         * Returns the value of the most recently added region containing the given point, or
+         * null if there is none
+         */
+        public T find(double x, double y) {
+            var cell = cells.get(getCellKey((int) Math.floor(x / CELL_SIZE),
+                    (int) Math.floor(y / CELL_SIZE)));
+            if (cell == null) {
+                return null;
+            }
+            for (int i = cell.size() - 1; i >= 0; --i) {
+                if (cell.get(i).getKey().wasClicked(x, y)) {
+                    return cell.get(i).getValue();
+                }
+            }
+            return null;
+        }
+
+        /** Returns the key of the cell in the given column and row */
+        private static long getCellKey(int column, int row) {
+            return ((long) column << 32) | (row & 0xFFFFFFFFL);
+        }
+    }
+
     /**
      * Creates a new AirportCanvas with the given dimensions.
      *
@@ -103,7 +221,10 @@ public class AirportCanvas extends Canvas {
         super(width, height);
 
         this.viewModel = viewModel;
-        this.drawnAircraft = new HashMap<>();
+        this.drawnAircraft = new RegionIndex<>();
+        this.frameScheduler = new FrameScheduler(this::draw);
+        this.spriteCache = new SpriteCache(AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT,
+                AirportCanvas::paintAircraft);
 
         this.runwayStartX = getWidth() / 2 + AIRCRAFT_WIDTH + 5;
         this.runwayWidth = getWidth() / 2 - 2 * 5 - AIRCRAFT_WIDTH;
@@ -115,12 +236,7 @@ public class AirportCanvas extends Canvas {
             }
             double x = event.getX();
             double y = event.getY();
-            Aircraft clickedAircraft = null;
-            for (Map.Entry<ClickableRegion, Aircraft> entry : drawnAircraft.entrySet()) {
-                if (entry.getKey().wasClicked(x, y)) {
-                    clickedAircraft = entry.getValue();
-                }
-            }
+            Aircraft clickedAircraft = drawnAircraft.find(x, y);
             viewModel.getSelectedAircraft().set(clickedAircraft);
             viewModel.registerChange();
 
@@ -129,6 +245,8 @@ public class AirportCanvas extends Canvas {
             addEventFilter(MouseEvent.MOUSE_PRESSED, e -> requestFocus());
         });
 
+        setOnScroll(this::handleScroll);
+
         landTimeline = new Timeline(
                 new KeyFrame(Duration.seconds(0),
                         new KeyValue(runwayAnimationX,
@@ -147,7 +265,6 @@ public class AirportCanvas extends Canvas {
                 ),
                 new KeyFrame(Duration.seconds(1),
                         "end animation",
-                        e -> drawRunway(),
                         new KeyValue(runwayAnimationX, runwayStartX - AIRCRAFT_WIDTH,
                                 Interpolator.EASE_IN)
                 )
@@ -156,6 +273,9 @@ public class AirportCanvas extends Canvas {
 
     /**
      * Draws all the relevant elements of the airport onto the canvas.
+     * <p>
+     * The airport is drawn from the view model's current snapshot of the control tower, so the
+     * canvas never reads the control tower while the simulation thread is ticking it.
      *
      * @given
      */
@@ -163,16 +283,27 @@ public class AirportCanvas extends Canvas {
         this.drawnAircraft.clear();
 
         GraphicsContext gc = getGraphicsContext2D();
+        TowerSnapshot snapshot = viewModel.getSnapshot();
 
         gc.setFill(Color.DARKGREEN);
         gc.fillRect(0, 0, getWidth(), getHeight());
 
+        drawTerminals(snapshot);
         drawRunway();
-        drawQueue(viewModel.getControlTower().getTakeoffQueue(), 0, 0);
-        drawQueue(viewModel.getControlTower().getLandingQueue(), 0, AIRCRAFT_HEIGHT);
-        drawAwayAircraft();
-        drawTerminals();
-        drawTickStatus();
+        drawQueue(snapshot.getTakeoffQueue(), "T/O", 0, 0);
+        drawQueue(snapshot.getLandingQueue(), "LND", 0, AIRCRAFT_HEIGHT);
+        drawAwayAircraft(snapshot);
+        drawTickStatus(snapshot);
+    }
+
+    /**
+     * Requests that the canvas be redrawn on the next frame.
+     * <p>
+     * Multiple requests made within the same frame, including those made while a runway
+     * animation is running, result in a single redraw.
+     */
+    public void requestDraw() {
+        frameScheduler.requestRepaint();
     }
 
     /* Draws the runway */
@@ -211,7 +342,8 @@ public class AirportCanvas extends Canvas {
     /**
      * Performs the animation of the aircraft currently landing or taking off.
      * <p>
-     * Called once per tick of the view model.
+     * Called once per tick of the view model. The animation is drawn by the canvas's shared
+     * render loop and is retired once its timeline finishes.
      *
      * @given
      */
@@ -227,31 +359,23 @@ public class AirportCanvas extends Canvas {
             return;
         }
 
-        Aircraft finalAircraftToAnimate = aircraftToAnimate;
-        AnimationTimer timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                draw();
-
-                drawAircraft(finalAircraftToAnimate,
-                        runwayAnimationX.doubleValue(),
-                        AIRCRAFT_HEIGHT + 5,
-                        Color.WHITE);
-            }
-        };
-        timer.start();
-        if (takingOff) {
-            takeoffTimeline.play();
-        } else {
-            landTimeline.play();
+        AircraftState finalAircraftToAnimate =
+                viewModel.getSnapshot().getAircraftState(aircraftToAnimate);
+        if (finalAircraftToAnimate == null) {
+            return;
         }
+        Timeline timeline = takingOff ? takeoffTimeline : landTimeline;
+        frameScheduler.play(timeline, () -> drawAircraft(finalAircraftToAnimate,
+                runwayAnimationX.doubleValue(),
+                AIRCRAFT_HEIGHT + 5,
+                Color.WHITE));
     }
 
-    /* Draws an aircraft queue */
-    private void drawQueue(AircraftQueue queue, double x, double y) {
+    /* Draws the front of an aircraft queue */
+    private void drawQueue(List<AircraftState> queue, String labelText, double x, double y) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        final int queueCapacity = 6;
+        final int queueCapacity = QUEUE_CAPACITY;
         final double labelWidth = 65;
 
         gc.setFill(Color.WHITE);
@@ -264,31 +388,23 @@ public class AirportCanvas extends Canvas {
         gc.setTextBaseline(VPos.CENTER);
         gc.setTextAlign(TextAlignment.LEFT);
         gc.setFont(Font.font("monospace", FontWeight.BOLD, 30));
-        String labelText;
-        if (queue instanceof TakeoffQueue) {
-            labelText = "T/O";
-        } else {
-            labelText = "LND";
-        }
         gc.fillText(labelText, x + 5, y + AIRCRAFT_HEIGHT / 2);
 
         gc.setStroke(Color.BLACK);
         gc.strokeLine(x + labelWidth, y, x + labelWidth, y + AIRCRAFT_HEIGHT);
 
         // Draw aircraft in queue
-        var aircraft = queue.getAircraftInOrder();
-
-        for (int i = 0; i < aircraft.size(); ++i) {
-            Aircraft a = aircraft.get(i);
+        for (int i = 0; i < Math.min(queue.size(), queueCapacity); ++i) {
+            AircraftState a = queue.get(i);
             drawAircraft(a, x + labelWidth + AIRCRAFT_WIDTH * i, y, Color.BLACK);
         }
     }
 
     /* Draws the list of aircraft that are currently AWAY */
-    private void drawAwayAircraft() {
+    private void drawAwayAircraft(TowerSnapshot snapshot) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        final int capacity = 6;
+        final int capacity = QUEUE_CAPACITY;
         final double labelWidth = 85;
         final double x = getWidth() / 2 + 5;
         final double y = 0;
@@ -309,39 +425,80 @@ public class AirportCanvas extends Canvas {
         gc.strokeLine(x + labelWidth, y, x + labelWidth, y + AIRCRAFT_HEIGHT);
 
         // Draw aircraft in queue
-        var aircraft = viewModel.getControlTower().getAircraft().stream()
-                .filter(a -> a.getTaskList().getCurrentTask().getType() == TaskType.AWAY)
-                .collect(Collectors.toList());
-
-        for (int i = 0; i < aircraft.size(); ++i) {
-            Aircraft a = aircraft.get(i);
-            drawAircraft(a, x + labelWidth + AIRCRAFT_WIDTH * i, y, Color.BLACK);
+        var aircraft = snapshot.getAircraftWithTask(TaskType.AWAY);
+        for (int i = 0; i < Math.min(aircraft.size(), capacity); ++i) {
+            drawAircraft(aircraft.get(i), x + labelWidth + AIRCRAFT_WIDTH * i, y, Color.BLACK);
         }
     }
 
-    /* Draws the terminals and their gates */
-    private void drawTerminals() {
+    /*
+     * Draws the terminals and their gates that are visible in the scrolled and zoomed terminal
+     * area. Terminals are laid out in two columns and wrap their gates onto as many rows as
+     * needed; only the rows of terminals and gates that intersect the viewport are drawn.
+     */
+    private void drawTerminals(TowerSnapshot snapshot) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        final double terminalLabelHeight = 25;
-        final double terminalAircraftHeight = AIRCRAFT_HEIGHT;
-        final double terminalHeight = terminalLabelHeight + terminalAircraftHeight;
-        final double marginBelow = 5;
-        final double marginLeft = 5;
-        final double spaceAbove = 2 * AIRCRAFT_HEIGHT + 2 * marginBelow; // queues + padding
-        final double terminalWidth = getWidth() / 2 - (2 * marginLeft);
+        final double terminalWidth = getTerminalWidth();
+        final double viewportTop = getTerminalAreaTop();
+        final double viewportHeight = getTerminalAreaHeight();
+
+        List<TerminalState> terminals = snapshot.getTerminals();
+        double[] rowTops = getTerminalRowTops(snapshot);
+        clampScroll(rowTops[rowTops.length - 1]);
+
+        /* Range of world coordinates visible in the viewport */
+        final double visibleTop = scrollY;
+        final double visibleBottom = scrollY + viewportHeight / zoom;
+        final double visibleLeft = scrollX;
+        final double visibleRight = scrollX + getWidth() / zoom;
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, viewportTop, getWidth(), viewportHeight);
+        gc.clip();
+        gc.translate(-scrollX * zoom, viewportTop - scrollY * zoom);
+        gc.scale(zoom, zoom);
+        setRegionTransform(zoom, -scrollX * zoom, viewportTop - scrollY * zoom,
+                viewportTop, viewportTop + viewportHeight);
+
+        /* First terminal row that ends below the top of the viewport */
+        int firstRow = Arrays.binarySearch(rowTops, visibleTop);
+        firstRow = firstRow >= 0 ? firstRow : Math.max(0, -firstRow - 2);
+
+        for (int row = firstRow; row < rowTops.length - 1 && rowTops[row] < visibleBottom;
+                ++row) {
+            for (int column = 0; column < 2; ++column) {
+                int i = row * 2 + column;
+                final double terminalStartX = TERMINAL_MARGIN + column
+                        * (terminalWidth + 2 * TERMINAL_MARGIN);
+                if (i >= terminals.size() || terminalStartX > visibleRight
+                        || terminalStartX + terminalWidth < visibleLeft) {
+                    continue;
+                }
+                drawTerminal(terminals.get(i), terminalStartX, rowTops[row] + TERMINAL_MARGIN,
+                        terminalWidth, visibleTop, visibleBottom);
+            }
+        }
 
-        List<Terminal> terminals = this.viewModel.getControlTower().getTerminals();
+        setRegionTransform(1, 0, 0, 0, getHeight());
+        gc.restore();
+
+        drawScrollIndicator(rowTops[rowTops.length - 1], viewportTop, viewportHeight);
+    }
 
-        for (int i = 0; i < terminals.size(); ++i) {
-            Terminal terminal = terminals.get(i);
+    /* Draws a single terminal, and those of its gate rows that are visible, in world coords */
+    private void drawTerminal(TerminalState terminal, double terminalStartX,
+            double terminalStartY, double terminalWidth, double visibleTop,
+            double visibleBottom) {
+        GraphicsContext gc = getGraphicsContext2D();
 
-            final double terminalStartX = marginLeft + (i % 2 == 1
-                    ? terminalWidth + 2 * marginLeft
-                    : 0);
-            final double terminalStartY = spaceAbove + marginBelow
-                    + ((i / 2) * (terminalHeight + marginBelow));
+        final double terminalLabelHeight = TERMINAL_LABEL_HEIGHT;
+        final double gateWidth = AIRCRAFT_WIDTH + 15;
+        final List<GateState> gates = terminal.getGates();
+        final int numGateRows = getNumGateRows(gates.size());
 
+        if (terminalStartY + terminalLabelHeight >= visibleTop) {
             gc.setFill(Color.gray(0.7));
             gc.fillRect(terminalStartX,
                     terminalStartY,
@@ -357,7 +514,7 @@ public class AirportCanvas extends Canvas {
             gc.setTextAlign(TextAlignment.CENTER);
             gc.setFont(Font.font("sans-serif", FontWeight.BOLD, 14));
 
-            String terminalText = terminal.getClass().getSimpleName() + " "
+            String terminalText = terminal.getTerminalType() + " "
                     + terminal.getTerminalNumber();
             if (terminal.hasEmergency()) {
                 terminalText += " (emergency)";
@@ -367,7 +524,7 @@ public class AirportCanvas extends Canvas {
                     terminalStartY + 0.5 * terminalLabelHeight);
 
             // Number of gates and max number of gates
-            String numGatesText = terminal.getGates().size() + "/" + Terminal.MAX_NUM_GATES
+            String numGatesText = gates.size() + "/" + terminal.getGateCapacity()
                     + " gates";
             gc.setFill(Color.BLACK);
             gc.setTextBaseline(VPos.CENTER);
@@ -378,7 +535,7 @@ public class AirportCanvas extends Canvas {
                     terminalStartY + 0.5 * terminalLabelHeight);
 
             // Occupancy level
-            String occupancyText = terminal.calculateOccupancyLevel() + "%";
+            String occupancyText = terminal.getOccupancyLevel() + "%";
             gc.setFill(Color.BLACK);
             gc.setTextBaseline(VPos.CENTER);
             gc.setTextAlign(TextAlignment.RIGHT);
@@ -386,18 +543,27 @@ public class AirportCanvas extends Canvas {
             gc.fillText(occupancyText,
                     terminalStartX + terminalWidth - 2, // 2px right padding
                     terminalStartY + 0.5 * terminalLabelHeight);
+        }
+
+        final double gatesStartY = terminalStartY + terminalLabelHeight;
+        final int firstGateRow = Math.max(0,
+                (int) Math.floor((visibleTop - gatesStartY) / AIRCRAFT_HEIGHT));
+        final int lastGateRow = Math.min(numGateRows - 1,
+                (int) Math.floor((visibleBottom - gatesStartY) / AIRCRAFT_HEIGHT));
+
+        for (int gateRow = firstGateRow; gateRow <= lastGateRow; ++gateRow) {
+            final double gateRowY = gatesStartY + gateRow * AIRCRAFT_HEIGHT;
 
             gc.setFill(Color.gray(0.2));
             gc.fillRect(terminalStartX,
-                    terminalStartY + terminalLabelHeight,
+                    gateRowY,
                     terminalWidth,
-                    terminalAircraftHeight);
+                    AIRCRAFT_HEIGHT);
 
-            List<Gate> gates = terminal.getGates();
-            for (int j = 0; j < gates.size(); ++j) {
-                Gate gate = gates.get(j);
-
-                final double gateWidth = AIRCRAFT_WIDTH + 15;
+            final int rowEnd = Math.min(gates.size(), (gateRow + 1) * GATES_PER_ROW);
+            for (int j = gateRow * GATES_PER_ROW; j < rowEnd; ++j) {
+                GateState gate = gates.get(j);
+                final int column = j % GATES_PER_ROW;
 
                 // Draw gate number
                 gc.setFill(Color.WHITE);
@@ -405,48 +571,161 @@ public class AirportCanvas extends Canvas {
                 gc.setTextAlign(TextAlignment.LEFT);
                 gc.setFont(Font.font("monospace", FontWeight.BOLD, 12));
                 gc.fillText(String.valueOf(gate.getGateNumber()),
-                        terminalStartX + 2 + gateWidth * j, // 2px left padding
-                        terminalStartY + terminalLabelHeight + terminalAircraftHeight / 2.0);
+                        terminalStartX + 2 + gateWidth * column, // 2px left padding
+                        gateRowY + AIRCRAFT_HEIGHT / 2.0);
 
                 // Draw dividing line
-                final double gateLineX = terminalStartX + gateWidth * (j + 1);
-                if (j != Terminal.MAX_NUM_GATES - 1) {
+                final double gateLineX = terminalStartX + gateWidth * (column + 1);
+                if (column != GATES_PER_ROW - 1) {
                     gc.setStroke(Color.WHITE);
                     gc.strokeLine(gateLineX,
-                            terminalStartY + terminalLabelHeight,
+                            gateRowY,
                             gateLineX,
-                            terminalStartY + terminalLabelHeight + terminalAircraftHeight);
+                            gateRowY + AIRCRAFT_HEIGHT);
                 }
 
                 // Draw parked aircraft
                 if (gate.isOccupied()) {
                     drawAircraft(gate.getAircraftAtGate(),
                             gateLineX - AIRCRAFT_WIDTH,
-                            terminalStartY + terminalLabelHeight,
+                            gateRowY,
                             Color.WHITE);
                 }
             }
         }
     }
 
+    /* Draws a bar showing which part of the terminal area is visible, if it does not all fit */
+    private void drawScrollIndicator(double contentHeight, double viewportTop,
+            double viewportHeight) {
+        double visibleFraction = viewportHeight / zoom / contentHeight;
+        if (contentHeight <= 0 || visibleFraction >= 1) {
+            return;
+        }
+        GraphicsContext gc = getGraphicsContext2D();
+        final double barWidth = 4;
+        gc.setFill(Color.gray(1, 0.6));
+        gc.fillRect(getWidth() - barWidth - 1,
+                viewportTop + viewportHeight * scrollY / contentHeight,
+                barWidth,
+                viewportHeight * visibleFraction);
+    }
+
+    /* Returns the width of a terminal, in world coordinates */
+    private double getTerminalWidth() {
+        return getWidth() / 2 - (2 * TERMINAL_MARGIN);
+    }
+
+    /* Returns the y-coordinate of the top of the terminal area on the canvas */
+    private double getTerminalAreaTop() {
+        return 2 * AIRCRAFT_HEIGHT + 2 * TERMINAL_MARGIN; // queues + padding
+    }
+
+    /* Returns the height of the terminal area on the canvas, above the status bar */
+    private double getTerminalAreaHeight() {
+        return getHeight() - STATUS_BAR_HEIGHT - getTerminalAreaTop();
+    }
+
+    /* Returns the number of rows of gates drawn for a terminal with the given number of gates */
+    private static int getNumGateRows(int numGates) {
+        return Math.max(1, (numGates + GATES_PER_ROW - 1) / GATES_PER_ROW);
+    }
+
+    /*
+     * Returns the world y-coordinates of the top of each row of terminals, followed by the
+     * total height of all rows. The result is cached for as long as the snapshot is current.
+     */
+    private double[] getTerminalRowTops(TowerSnapshot snapshot) {
+        if (snapshot == layoutSnapshot) {
+            return terminalRowTops;
+        }
+        List<TerminalState> terminals = snapshot.getTerminals();
+        int numRows = (terminals.size() + 1) / 2;
+        double[] rowTops = new double[numRows + 1];
+        for (int row = 0; row < numRows; ++row) {
+            int gateRows = getNumGateRows(terminals.get(row * 2).getGates().size());
+            if (row * 2 + 1 < terminals.size()) {
+                gateRows = Math.max(gateRows,
+                        getNumGateRows(terminals.get(row * 2 + 1).getGates().size()));
+            }
+            rowTops[row + 1] = rowTops[row] + TERMINAL_MARGIN + TERMINAL_LABEL_HEIGHT
+                    + gateRows * AIRCRAFT_HEIGHT;
+        }
+        layoutSnapshot = snapshot;
+        terminalRowTops = rowTops;
+        return rowTops;
+    }
+
+    /* Keeps the scroll position within the content of the given height */
+    private void clampScroll(double contentHeight) {
+        double maxScrollY = Math.max(0, contentHeight + TERMINAL_MARGIN
+                - getTerminalAreaHeight() / zoom);
+        double maxScrollX = Math.max(0, getWidth() - getWidth() / zoom);
+        scrollY = Math.min(Math.max(0, scrollY), maxScrollY);
+        scrollX = Math.min(Math.max(0, scrollX), maxScrollX);
+    }
+
+    /*
+     * Sets the transform from the coordinates aircraft are drawn at to canvas coordinates, used
+     * when recording clickable regions, and the vertical range outside which regions are hidden.
+     */
+    private void setRegionTransform(double scale, double offsetX, double offsetY,
+            double clipTop, double clipBottom) {
+        this.regionScale = scale;
+        this.regionOffsetX = offsetX;
+        this.regionOffsetY = offsetY;
+        this.regionClipTop = clipTop;
+        this.regionClipBottom = clipBottom;
+    }
+
+    /*
+     * Scrolls the terminal area in response to the mouse wheel, or zooms it about the mouse
+     * position if the control key is held down.
+     */
+    private void handleScroll(ScrollEvent event) {
+        if (event.isControlDown()) {
+            double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+            double newZoom = Math.min(MAX_ZOOM, Math.max(MIN_ZOOM, zoom * factor));
+            /* Keep the point under the mouse in the same place on the canvas */
+            double mouseY = event.getY() - getTerminalAreaTop();
+            scrollX += event.getX() / zoom - event.getX() / newZoom;
+            scrollY += mouseY / zoom - mouseY / newZoom;
+            zoom = newZoom;
+        } else {
+            scrollX -= event.getDeltaX() / zoom;
+            scrollY -= event.getDeltaY() / zoom;
+        }
+        event.consume();
+        requestDraw();
+    }
+
     /*
      * Draws an aircraft at the given position on the canvas.
      *
-     * @param aircraft aircraft to draw
+     * @param aircraft state of the aircraft to draw
      * @param x x-coord of top left corner
      * @param y y-coord of top left corner
      * @param textColor color to use when drawing aircraft info text
      */
-    private void drawAircraft(Aircraft aircraft, double x, double y, Color textColor) {
+    private void drawAircraft(AircraftState aircraft, double x, double y, Color textColor) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        this.drawnAircraft.put(new ClickableRegion(x, y, AIRCRAFT_WIDTH, AIRCRAFT_HEIGHT),
-                aircraft);
+        /* Record where the aircraft appears on the canvas, hiding any part that is clipped */
+        double regionX = x * regionScale + regionOffsetX;
+        double regionTop = Math.max(regionClipTop, y * regionScale + regionOffsetY);
+        double regionBottom = Math.min(regionClipBottom,
+                (y + AIRCRAFT_HEIGHT) * regionScale + regionOffsetY);
+        if (regionBottom > regionTop) {
+            this.drawnAircraft.add(new ClickableRegion(regionX, regionTop,
+                    AIRCRAFT_WIDTH * regionScale, regionBottom - regionTop),
+                    aircraft.getAircraft());
+        }
 
-        if (aircraft instanceof PassengerAircraft) {
-            gc.setFill(Color.CADETBLUE);
+        Color fill;
+        if (aircraft.isPassenger()) {
+            fill = Color.CADETBLUE;
         } else {
-            gc.setFill(Color.SADDLEBROWN);
+            fill = Color.SADDLEBROWN;
         }
 
         // Emergency
@@ -456,42 +735,45 @@ public class AirportCanvas extends Canvas {
 
         // Is selected
         FontWeight fontWeight = FontWeight.NORMAL;
-        if (Objects.equals(aircraft, viewModel.getSelectedAircraft().get())) {
+        if (Objects.equals(aircraft.getAircraft(), viewModel.getSelectedAircraft().get())) {
             fontWeight = FontWeight.BOLD;
         }
 
-        switch (aircraft.getCharacteristics().type) {
-            case HELICOPTER:
-                drawHelicopter(x, y);
-                break;
-            case AIRPLANE:
-            default:
-                drawAirplane(x, y);
-        }
+        spriteCache.drawSprite(gc, aircraft.getCharacteristics().type, fill, x, y);
 
-        // Text
-        gc.setFill(textColor);
-        gc.setTextBaseline(VPos.BOTTOM);
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.setFont(Font.font("monospace", fontWeight, 12));
-
-        Task currentTask = aircraft.getTaskList().getCurrentTask();
+        // Text, drawn upwards from the bottom of the aircraft one cached line at a time
+        Task currentTask = aircraft.getCurrentTask();
         String aircraftTaskLine;
         if (currentTask.getType() == TaskType.LOAD) {
             aircraftTaskLine = "LOAD@" + currentTask.getLoadPercent() + "%";
         } else {
             aircraftTaskLine = currentTask.getType().name();
         }
-        String aircraftText = aircraft.getCallsign() + System.lineSeparator()
-                + aircraftTaskLine + System.lineSeparator()
-                + aircraft.calculateOccupancyLevel() + "%";
-        gc.fillText(aircraftText,
-                x + AIRCRAFT_WIDTH / 2,
-                y + AIRCRAFT_HEIGHT);
+        double textBottom = y + AIRCRAFT_HEIGHT;
+        textBottom -= spriteCache.drawLabel(gc, aircraft.getOccupancyLevel() + "%",
+                textColor, fontWeight, x + AIRCRAFT_WIDTH / 2, textBottom);
+        textBottom -= spriteCache.drawLabel(gc, aircraftTaskLine,
+                textColor, fontWeight, x + AIRCRAFT_WIDTH / 2, textBottom);
+        spriteCache.drawLabel(gc, aircraft.getCallsign(),
+                textColor, fontWeight, x + AIRCRAFT_WIDTH / 2, textBottom);
     }
 
-    private void drawAirplane(double x, double y) {
-        GraphicsContext gc = getGraphicsContext2D();
+    /*
+     * Paints the vector image of an aircraft of the given type with its top left corner at the
+     * origin, using the current fill colour. Used to pre-render the sprites of the sprite cache.
+     */
+    private static void paintAircraft(GraphicsContext gc, AircraftType type) {
+        switch (type) {
+            case HELICOPTER:
+                drawHelicopter(gc, 0, 0);
+                break;
+            case AIRPLANE:
+            default:
+                drawAirplane(gc, 0, 0);
+        }
+    }
+
+    private static void drawAirplane(GraphicsContext gc, double x, double y) {
 
         // Wings
         gc.fillPolygon(new double[] {
@@ -522,9 +804,7 @@ public class AirportCanvas extends Canvas {
                 10);
     }
 
-    private void drawHelicopter(double x, double y) {
-        GraphicsContext gc = getGraphicsContext2D();
-
+    private static void drawHelicopter(GraphicsContext gc, double x, double y) {
 
         // Fuselage
         gc.fillOval(x + 15, y + 16, 30, 16);
@@ -539,10 +819,10 @@ public class AirportCanvas extends Canvas {
     }
 
     /* Draws the status bar containing tick information */
-    private void drawTickStatus() {
+    private void drawTickStatus(TowerSnapshot snapshot) {
         GraphicsContext gc = getGraphicsContext2D();
 
-        final double height = 20;
+        final double height = STATUS_BAR_HEIGHT;
 
         gc.setFill(Color.gray(0.5));
         gc.fillRect(0, getHeight() - height, getWidth(), height);
@@ -552,7 +832,12 @@ public class AirportCanvas extends Canvas {
         gc.setTextAlign(TextAlignment.CENTER);
         gc.setFont(Font.font("sans-serif", 14));
         gc.fillText(String.format("%d ticks elapsed",
-                viewModel.getControlTower().getTicksElapsed()),
+                snapshot.getTicksElapsed()),
                 getWidth() / 2, getHeight() - 0.5 * height);
+
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText(String.format("Zoom %d%% (scroll to move, Ctrl+scroll to zoom)",
+                Math.round(zoom * 100)),
+                getWidth() - 5, getHeight() - 0.5 * height);
     }
 }
@@ -0,0 +1,98 @@
+package towersim.display;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single render loop shared by every animation drawn on an {@link AirportCanvas}.
+ * <p>
+ * Animations are registered together with an overlay that draws the animated element on top of
+ * the rest of the canvas. On each pulse in which a repaint has been requested or an animation is
+ * running, the canvas is repainted exactly once and the overlay of each running animation is then
+ * drawn over it. Animations are retired as soon as their timeline finishes, and the scheduler
+ * stops listening for pulses when there is nothing left to draw.
+ */
+class FrameScheduler extends AnimationTimer {
+
+    /** Repaints the static contents of the canvas */
+    private final Runnable repaint;
+
+    /** Overlays of the animations that are currently running, keyed by their timeline */
+    private final Map<Animation, Runnable> activeAnimations;
+
+    /** Whether the canvas should be repainted on the next pulse */
+    private boolean repaintRequested;
+
+    /**
+     * Creates a new frame scheduler that repaints using the given action.
+     *
+     * @param repaint action that redraws the static contents of the canvas
+     */
+    FrameScheduler(Runnable repaint) {
+        this.repaint = repaint;
+        this.activeAnimations = new LinkedHashMap<>();
+        this.repaintRequested = false;
+    }
+
+    /**
+     * Requests that the canvas be repainted on the next pulse.
+     * <p>
+     * Any number of requests made before the next pulse result in a single repaint.
+     */
+    void requestRepaint() {
+        this.repaintRequested = true;
+        start();
+    }
+
+    /**
+     * Plays the given animation, drawing the given overlay on every frame until it finishes.
+     * <p>
+     * If the animation is already running, its overlay is replaced by the given overlay.
+     *
+     * @param animation timeline driving the animated element
+     * @param overlay action that draws the animated element over the repainted canvas
+     */
+    void play(Animation animation, Runnable overlay) {
+        this.activeAnimations.put(animation, overlay);
+        animation.setOnFinished(event -> retire(animation));
+        animation.play();
+        requestRepaint();
+    }
+
+    /**
+     * Returns the number of animations that are currently running.
+     *
+     * @return number of running animations
+     */
+    int getNumActiveAnimations() {
+        return this.activeAnimations.size();
+    }
+
+    /* Removes a finished animation and repaints the canvas without its overlay */
+    private void retire(Animation animation) {
+        this.activeAnimations.remove(animation);
+        requestRepaint();
+    }
+
+    /**
+     * Repaints the canvas and draws the overlays of all running animations, at most once per
+     * pulse.
+     *
+     * @param now timestamp of the current frame, in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        if (!this.repaintRequested && this.activeAnimations.isEmpty()) {
+            stop();
+            return;
+        }
+        this.repaintRequested = false;
+        this.repaint.run();
+        for (Runnable overlay : this.activeAnimations.values()) {
+            overlay.run();
+        }
+    }
+}
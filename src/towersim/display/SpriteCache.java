@@ -0,0 +1,151 @@
+package towersim.display;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import towersim.aircraft.AircraftType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of images pre-rendered for drawing on an {@link AirportCanvas}.
+ * <p>
+ * Aircraft sprites are rendered once per aircraft type and colour, and text labels once per
+ * distinct text, colour and font weight. Drawing an aircraft then only copies images onto the
+ * canvas rather than rebuilding vector paths and laying out text. Images are rendered at twice
+ * their displayed size so that they remain sharp when the canvas is zoomed in.
+ * <p>
+ * Images can only be rendered on the JavaFX application thread.
+ */
+class SpriteCache {
+
+    /** Paints the vector image of an aircraft of a given type, using the current fill colour */
+    @FunctionalInterface
+    interface SpritePainter {
+        /**
+         * Paints an aircraft of the given type with its top left corner at the origin.
+         *
+         * @param gc graphics context to paint to
+         * @param type type of aircraft to paint
+         */
+        void paint(GraphicsContext gc, AircraftType type);
+    }
+
+    /** Scale at which images are rendered, relative to their displayed size */
+    private static final double RENDER_SCALE = 2;
+
+    /** Maximum number of text labels kept in the cache */
+    private static final int MAX_LABELS = 4096;
+
+    /** Size of the font used for labels, when displayed */
+    private static final double LABEL_FONT_SIZE = 12;
+
+    /** Displayed width of an aircraft sprite, in pixels */
+    private final double spriteWidth;
+
+    /** Displayed height of an aircraft sprite, in pixels */
+    private final double spriteHeight;
+
+    /** Paints the vector image of each sprite the first time it is needed */
+    private final SpritePainter painter;
+
+    /** Rendered aircraft sprites, by aircraft type and fill colour */
+    private final Map<AircraftType, Map<Color, Image>> sprites;
+
+    /** Rendered text labels, least recently used first */
+    private final Map<String, Image> labels;
+
+    /** Parameters used to render images with a transparent background */
+    private final SnapshotParameters snapshotParameters;
+
+    /**
+     * Creates a new, empty sprite cache.
+     *
+     * @param spriteWidth displayed width of an aircraft sprite, in pixels
+     * @param spriteHeight displayed height of an aircraft sprite, in pixels
+     * @param painter paints the vector image of an aircraft of a given type
+     */
+    SpriteCache(double spriteWidth, double spriteHeight, SpritePainter painter) {
+        this.spriteWidth = spriteWidth;
+        this.spriteHeight = spriteHeight;
+        this.painter = painter;
+        this.sprites = new EnumMap<>(AircraftType.class);
+        this.labels = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > MAX_LABELS;
+            }
+        };
+        this.snapshotParameters = new SnapshotParameters();
+        this.snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Draws the sprite of an aircraft of the given type and colour with its top left corner at
+     * the given position.
+     *
+     * @param gc graphics context to draw to
+     * @param type type of aircraft to draw
+     * @param fill colour of the aircraft
+     * @param x x-coord of top left corner
+     * @param y y-coord of top left corner
+     */
+    void drawSprite(GraphicsContext gc, AircraftType type, Color fill, double x, double y) {
+        Image sprite = this.sprites.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(fill, key -> renderSprite(type, fill));
+        gc.drawImage(sprite, x, y, this.spriteWidth, this.spriteHeight);
+    }
+
+    /**
+     * Draws a single line of monospace text, horizontally centred on the given x-coordinate
+     * with its bottom edge at the given y-coordinate.
+     *
+     * @param gc graphics context to draw to
+     * @param text text to draw
+     * @param color colour of the text
+     * @param weight font weight of the text
+     * @param centreX x-coord of the centre of the text
+     * @param bottomY y-coord of the bottom of the text
+     * @return height of the drawn text, in pixels
+     */
+    double drawLabel(GraphicsContext gc, String text, Color color, FontWeight weight,
+            double centreX, double bottomY) {
+        String key = weight.name() + '|' + color + '|' + text;
+        Image label = this.labels.get(key);
+        if (label == null) {
+            label = renderLabel(text, color, weight);
+            this.labels.put(key, label);
+        }
+        double width = label.getWidth() / RENDER_SCALE;
+        double height = label.getHeight() / RENDER_SCALE;
+        gc.drawImage(label, centreX - width / 2, bottomY - height, width, height);
+        return height;
+    }
+
+    /* Renders the sprite of an aircraft of the given type and colour */
+    private Image renderSprite(AircraftType type, Color fill) {
+        Canvas canvas = new Canvas(this.spriteWidth * RENDER_SCALE,
+                this.spriteHeight * RENDER_SCALE);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.scale(RENDER_SCALE, RENDER_SCALE);
+        gc.setFill(fill);
+        this.painter.paint(gc, type);
+        return canvas.snapshot(this.snapshotParameters, null);
+    }
+
+    /* Renders a single line of text */
+    private Image renderLabel(String text, Color color, FontWeight weight) {
+        Text node = new Text(text);
+        node.setFont(Font.font("monospace", weight, LABEL_FONT_SIZE * RENDER_SCALE));
+        node.setFill(color);
+        return node.snapshot(this.snapshotParameters, null);
+    }
+}
@@ -1,8 +1,10 @@
 package towersim.display;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.geometry.Insets;
@@ -17,6 +19,12 @@ import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
 import towersim.aircraft.FreightAircraft;
 import towersim.aircraft.PassengerAircraft;
+import towersim.control.CallsignIndex;
+import towersim.control.SaveListener;
+import towersim.control.TowerSnapshot.AircraftState;
+import towersim.control.TowerSnapshot.GateState;
+import towersim.control.TowerSnapshot.LoadingState;
+import towersim.control.TowerSnapshot.TerminalState;
 import towersim.ground.AirplaneTerminal;
 import towersim.ground.Gate;
 import towersim.ground.HelicopterTerminal;
@@ -27,9 +35,9 @@ import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * View for the Control Tower Simulation GUI.
@@ -45,18 +53,21 @@ public class View {
     /** Custom canvas that represents the state of the simulation graphically */
     private AirportCanvas canvas;
 
+    /** Table of the aircraft loading at a gate */
+    private TableView<Aircraft> loadingTable;
+
+    /** Table of every aircraft managed by the control tower */
+    private TableView<Aircraft> fleetTable;
+
     /** Last recorded time in nanoseconds */
     private long lastNanoTime;
 
     /** Time spent un-paused since last tick, in nanoseconds */
     private long timeSpentUnpaused = 0;
 
-    /** Time interval between ticks of the view model */
+    /** Time interval between ticks of the view model; 0 for turbo mode */
     private final IntegerProperty secondsPerTick = new SimpleIntegerProperty(5);
 
-    /** Maximum number of terminals that can be displayed */
-    private static final int MAX_TERMINALS = 6;
-
     /**
      * Creates a new view for the given view model and adds the associated GUI elements to the given
      * stage.
@@ -98,15 +109,19 @@ public class View {
         buttons.getChildren().add(droneAlertButton);
         buttons.getChildren().add(droneClearButton);
         buttons.getChildren().add(findSuitableGateButton);
+        buttons.getChildren().add(createCallsignSearchBox());
         var gateInfoLabel = new Label();
         gateInfoLabel.textProperty().bind(viewModel.getSuitableGateText());
         buttons.getChildren().add(gateInfoLabel);
+        var saveProgressBar = new ProgressBar();
+        saveProgressBar.progressProperty().bind(viewModel.getSaveProgress());
+        saveProgressBar.visibleProperty().bind(viewModel.getSaving());
+        buttons.getChildren().add(saveProgressBar);
 
         var bottomRightPanel = new VBox();
         bottomRightPanel.getChildren().add(buttons);
         bottomRightPanel.getChildren().add(space);
-        var rightInfoBox = createInfoBox(viewModel.getLoadingInfoText(), 6);
-        bottomRightPanel.getChildren().add(rightInfoBox);
+        bottomRightPanel.getChildren().add(createTableTabs());
 
         var bottomPanel = new HBox();
         var leftInfoBox = createInfoBox(viewModel.getAircraftInfoText(), 9);
@@ -120,6 +135,23 @@ public class View {
         return pane;
     }
 
+    /*
+     * Creates a text field that selects the aircraft with the entered callsign, or the first
+     * aircraft whose callsign starts with the entered text, when enter is pressed. The text is
+     * shown in red if no callsign matches.
+     */
+    private TextField createCallsignSearchBox() {
+        var searchBox = new TextField();
+        searchBox.setPromptText("Find callsign");
+        searchBox.setPrefColumnCount(10);
+        searchBox.setOnAction(event -> searchBox.setStyle(
+                viewModel.selectAircraftByCallsign(searchBox.getText())
+                        ? "" : "-fx-text-fill: red;"));
+        searchBox.textProperty().addListener(
+                (observable, oldValue, newValue) -> searchBox.setStyle(""));
+        return searchBox;
+    }
+
     /* Creates a menu bar that allows actions to be taken within the GUI */
     private MenuBar createMenuBar() {
         MenuBar menuBar = new MenuBar();
@@ -130,17 +162,18 @@ public class View {
 
         MenuItem save = new MenuItem("_Save");
         save.setMnemonicParsing(true);
-        save.setOnAction(event -> {
-            try {
-                viewModel.save();
-            } catch (IOException e) {
-                viewModel.createErrorDialog("Error saving to file",
-                        e.getMessage());
-                return;
+        save.setOnAction(event -> viewModel.saveAsync(new SaveListener() {
+            @Override
+            public void saved() {
+                viewModel.createSuccessDialog("Saved successfully",
+                        "Saved to default provided file locations successfully.");
             }
-            viewModel.createSuccessDialog("Saved successfully",
-                    "Saved to default provided file locations successfully.");
-        });
+
+            @Override
+            public void failed(IOException e) {
+                viewModel.createErrorDialog("Error saving to file", e.getMessage());
+            }
+        }));
 
         MenuItem exit = new MenuItem("_Exit");
         exit.setMnemonicParsing(true);
@@ -151,6 +184,7 @@ public class View {
         menuFile.setMnemonicParsing(true);
         menuFile.getItems().add(save);
         menuFile.getItems().add(createSaveAsMenuItem());
+        menuFile.getItems().add(createAutosaveMenuItem());
         menuFile.getItems().add(new SeparatorMenuItem());
         menuFile.getItems().add(exit);
 
@@ -165,11 +199,13 @@ public class View {
         emergencyAircraft.disableProperty().bind(viewModel.getSelectedAircraft().isNull());
         emergencyAircraft.setOnAction(e -> {
             var selectedAircraft = viewModel.getSelectedAircraft().get();
-            if (selectedAircraft.hasEmergency()) {
-                selectedAircraft.clearEmergency();
-            } else {
-                selectedAircraft.declareEmergency();
-            }
+            viewModel.getSimulationRunner().execute(() -> {
+                if (selectedAircraft.hasEmergency()) {
+                    selectedAircraft.clearEmergency();
+                } else {
+                    selectedAircraft.declareEmergency();
+                }
+            });
             viewModel.registerChange();
         });
         MenuItem emergencyTerminal = new MenuItem("On a _terminal...");
@@ -180,12 +216,14 @@ public class View {
             if (choice.isEmpty()) {
                 return;
             }
-            var terminal = choice.get();
-            if (terminal.hasEmergency()) {
-                terminal.clearEmergency();
-            } else {
-                terminal.declareEmergency();
-            }
+            var terminal = choice.get().getTerminal();
+            viewModel.getSimulationRunner().execute(() -> {
+                if (terminal.hasEmergency()) {
+                    terminal.clearEmergency();
+                } else {
+                    terminal.declareEmergency();
+                }
+            });
             viewModel.registerChange();
         });
         Menu emergency = new Menu("Toggle _emergency");
@@ -222,6 +260,11 @@ public class View {
         highSpeed.setMnemonicParsing(true);
         highSpeed.setOnAction(e -> secondsPerTick.set(1));
         highSpeed.disableProperty().bind(secondsPerTick.isEqualTo(1));
+        MenuItem turboSpeed = new MenuItem("_Turbo (as fast as possible)");
+        turboSpeed.setMnemonicParsing(true);
+        turboSpeed.setOnAction(e -> secondsPerTick.set(0));
+        turboSpeed.disableProperty().bind(secondsPerTick.isEqualTo(0));
+        viewModel.getTurbo().bind(secondsPerTick.isEqualTo(0));
         Menu menuSim = new Menu("_Simulation");
         menuSim.setMnemonicParsing(true);
         Menu speed = new Menu("_Speed");
@@ -229,6 +272,7 @@ public class View {
         speed.getItems().add(lowSpeed);
         speed.getItems().add(medSpeed);
         speed.getItems().add(highSpeed);
+        speed.getItems().add(turboSpeed);
         menuSim.getItems().add(pause);
         menuSim.getItems().add(speed);
         return menuSim;
@@ -240,9 +284,9 @@ public class View {
         addTerminal.setMnemonicParsing(true);
         addTerminal.setOnAction(event -> {
             var defaultTerminalNumber = 1;
-            var highestTerminalNumber = viewModel.getControlTower().getTerminals()
+            var highestTerminalNumber = viewModel.getSnapshot().getTerminals()
                     .stream()
-                    .mapToInt(Terminal::getTerminalNumber)
+                    .mapToInt(TerminalState::getTerminalNumber)
                     .max();
             if (highestTerminalNumber.isPresent()) {
                 defaultTerminalNumber = highestTerminalNumber.getAsInt() + 1;
@@ -255,7 +299,7 @@ public class View {
                 return;
             }
             /* Can't create a new terminal with the same number as an existing one */
-            if (viewModel.getControlTower().getTerminals().stream()
+            if (viewModel.getSnapshot().getTerminals().stream()
                     .anyMatch(t -> t.getTerminalNumber() == terminalNumber.get())) {
                 viewModel.createErrorDialog("Cannot create terminal",
                         "Terminal with number " + terminalNumber.get() + " already exists");
@@ -269,18 +313,24 @@ public class View {
             if (terminalType.isEmpty()) {
                 return;
             }
+            var gateCapacity = getResponse("Add Terminal",
+                    "Please enter the maximum number of gates in the terminal",
+                    "Gate capacity:",
+                    Terminal.MAX_NUM_GATES);
+            if (gateCapacity.isEmpty() || gateCapacity.get() < 0) {
+                return;
+            }
             Terminal newTerminal;
             if (terminalType.get().equals("AirplaneTerminal")) {
-                newTerminal = new AirplaneTerminal(terminalNumber.get());
+                newTerminal = new AirplaneTerminal(terminalNumber.get(), gateCapacity.get());
             } else {
-                newTerminal = new HelicopterTerminal(terminalNumber.get());
+                newTerminal = new HelicopterTerminal(terminalNumber.get(), gateCapacity.get());
             }
-            viewModel.getControlTower().addTerminal(newTerminal);
+            viewModel.getSimulationRunner().execute(
+                    () -> viewModel.getControlTower().addTerminal(newTerminal));
             viewModel.getNumTerminals().set(viewModel.getNumTerminals().get() + 1);
             viewModel.registerChange();
         });
-        addTerminal.disableProperty().bind(Bindings.greaterThan(viewModel.getNumTerminals(),
-                MAX_TERMINALS - 1));
         return addTerminal;
     }
 
@@ -295,20 +345,20 @@ public class View {
                 return;
             }
             var terminal = choice.get();
-            if (terminal.getGates().size() == Terminal.MAX_NUM_GATES) {
+            if (terminal.getGates().size() >= terminal.getGateCapacity()) {
                 viewModel.createErrorDialog("Cannot create gate", "Terminal "
                         + terminal.getTerminalNumber()
                         + " already has the maximum possible number of gates.");
                 return;
             }
             var defaultGateNumber = 1;
-            List<Gate> allGates = new ArrayList<>();
-            for (Terminal t : viewModel.getControlTower().getTerminals()) {
+            List<GateState> allGates = new ArrayList<>();
+            for (TerminalState t : viewModel.getSnapshot().getTerminals()) {
                 allGates.addAll(t.getGates());
             }
             var highestGateNumber = allGates
                     .stream()
-                    .mapToInt(Gate::getGateNumber)
+                    .mapToInt(GateState::getGateNumber)
                     .max();
             if (highestGateNumber.isPresent()) {
                 defaultGateNumber = highestGateNumber.getAsInt() + 1;
@@ -325,11 +375,13 @@ public class View {
                         "A gate already exists with number " + gateNumberChoice.get());
                 return;
             }
-            try {
-                terminal.addGate(new Gate(gateNumberChoice.get()));
-            } catch (NoSpaceException ex) {
-                // ignored (not possible)
-            }
+            viewModel.getSimulationRunner().execute(() -> {
+                try {
+                    terminal.getTerminal().addGate(new Gate(gateNumberChoice.get()));
+                } catch (NoSpaceException ex) {
+                    // ignored (not possible)
+                }
+            });
             viewModel.registerChange();
         });
         return addGate;
@@ -360,27 +412,23 @@ public class View {
             var aircraftPresets = new TreeMap<>(Map.of(
                     "Passenger Airplane (BOEING_787)",
                     new PassengerAircraft(generateRandomCallsign(
-                            new String[] {"QFA", "CSN", "UAL", "UAE"}[random.nextInt(4)],
-                            viewModel.getControlTower().getAircraft()),
+                            new String[] {"QFA", "CSN", "UAL", "UAE"}[random.nextInt(4)]),
                             AircraftCharacteristics.BOEING_787,
                             taskList1,
                             AircraftCharacteristics.BOEING_787.fuelCapacity / 6, 0),
                     "Freight Airplane (BOEING_747_8F)",
                     new FreightAircraft(generateRandomCallsign(
-                            new String[] {"UPS", "GTI", "CLX", "GEC"}[random.nextInt(4)],
-                            viewModel.getControlTower().getAircraft()),
+                            new String[] {"UPS", "GTI", "CLX", "GEC"}[random.nextInt(4)]),
                             AircraftCharacteristics.BOEING_747_8F,
                             taskList2,
                             AircraftCharacteristics.BOEING_747_8F.fuelCapacity / 8, 0),
                     "Passenger Helicopter (ROBINSON_R44)",
-                    new PassengerAircraft(generateRandomCallsign(null,
-                            viewModel.getControlTower().getAircraft()),
+                    new PassengerAircraft(generateRandomCallsign(null),
                             AircraftCharacteristics.ROBINSON_R44,
                             taskList2,
                             AircraftCharacteristics.ROBINSON_R44.fuelCapacity / 4, 1),
                     "Freight Helicopter (SIKORSKY_SKYCRANE)",
-                    new FreightAircraft(generateRandomCallsign(null,
-                            viewModel.getControlTower().getAircraft()),
+                    new FreightAircraft(generateRandomCallsign(null),
                             AircraftCharacteristics.SIKORSKY_SKYCRANE,
                             taskList1,
                             AircraftCharacteristics.SIKORSKY_SKYCRANE.fuelCapacity / 10, 0)));
@@ -394,16 +442,21 @@ public class View {
             }
             String chosenKey = choice.get();
             Aircraft chosenAircraft = aircraftPresets.get(chosenKey);
-            try {
-                viewModel.getControlTower().addAircraft(chosenAircraft);
-            } catch (NoSuitableGateException e) {
-                viewModel.createErrorDialog("Cannot create aircraft",
-                        "No suitable gate for aircraft " + chosenAircraft);
-                return;
-            }
+            String aircraftText = chosenAircraft.toString();
+            viewModel.getSimulationRunner().execute(() -> {
+                try {
+                    viewModel.getControlTower().addAircraft(chosenAircraft);
+                } catch (NoSuitableGateException e) {
+                    Platform.runLater(() -> viewModel.createErrorDialog(
+                            "Cannot create aircraft",
+                            "No suitable gate for aircraft " + aircraftText));
+                    return;
+                }
+                Platform.runLater(() -> viewModel.createSuccessDialog(
+                        "Successfully created aircraft",
+                        "Aircraft created:\n" + aircraftText));
+            });
             viewModel.registerChange();
-            viewModel.createSuccessDialog("Successfully created aircraft",
-                    "Aircraft created:\n" + chosenAircraft);
         });
         return addAircraft;
     }
@@ -424,54 +477,70 @@ public class View {
                 }
                 enteredFilenames.add(filename.get());
             }
-            try {
-                viewModel.saveAs(new FileWriter(enteredFilenames.get(0)),
-                        new FileWriter(enteredFilenames.get(1)),
-                        new FileWriter(enteredFilenames.get(2)),
-                        new FileWriter(enteredFilenames.get(3)));
-            } catch (IOException e) {
-                viewModel.createErrorDialog("Error saving to file",
-                        e.getMessage());
-                return;
-            }
-            viewModel.createSuccessDialog("Saved files successfully",
-                    "Saved to \"" + enteredFilenames + "\" successfully.");
+            viewModel.saveAsAsync(enteredFilenames, new SaveListener() {
+                @Override
+                public void saved() {
+                    viewModel.createSuccessDialog("Saved files successfully",
+                            "Saved to \"" + enteredFilenames + "\" successfully.");
+                }
+
+                @Override
+                public void failed(IOException e) {
+                    viewModel.createErrorDialog("Error saving to file", e.getMessage());
+                }
+            });
         });
         saveAs.setAccelerator(KeyCombination.keyCombination("Shortcut+S"));
         return saveAs;
     }
 
-    /* Generates a random callsign based on the given airline code and list of existing aircraft */
-    private String generateRandomCallsign(String airlineCode, List<Aircraft> existingAircraft) {
+    /* Creates a menu item that, when clicked, prompts for how often the model is autosaved */
+    private MenuItem createAutosaveMenuItem() {
+        MenuItem autosave = new MenuItem("Auto_save...");
+        autosave.setMnemonicParsing(true);
+        autosave.setOnAction(event -> {
+            var interval = getResponse("Autosave",
+                    "Please enter the number of ticks between automatic saves (0 to turn off)",
+                    "Ticks between saves:",
+                    100);
+            if (interval.isEmpty() || interval.get() < 0) {
+                return;
+            }
+            viewModel.setAutosaveInterval(interval.get());
+        });
+        return autosave;
+    }
+
+    /*
+     * Generates a random callsign based on the given airline code that is not in use by the
+     * control tower. Uniqueness is checked in the tower's callsign index, and if random
+     * callsigns keep colliding, the first free callsign is allocated instead.
+     */
+    private String generateRandomCallsign(String airlineCode) {
+        CallsignIndex callsigns = viewModel.getControlTower().getCallsignIndex();
         Random random = new Random();
         final int numDigitsInCallsign = 3;
-        StringBuilder builder;
-        String callsign;
-        boolean isUnique;
-        do {
-            builder = new StringBuilder();
+        final int maxAttempts = 10;
+        String prefix = airlineCode != null ? airlineCode : "VH-";
+        // Random letters for registrations, random digits for airline callsigns
+        String alphabet = airlineCode == null ? "ABCDEFGHIJKLMNOPQRSTUVWXYZ" : "0123456789";
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            StringBuilder builder = new StringBuilder(prefix);
             for (int i = 0; i < numDigitsInCallsign; i++) {
-                if (airlineCode == null) {
-                    // Random letter
-                    builder.append((char) (((int) 'A') + random.nextInt(26)));
-                } else {
-                    // Random digit
-                    builder.append((char) (((int) '0') + random.nextInt(10)));
-                }
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
             }
-            callsign = (airlineCode != null ? airlineCode : "VH-") + builder;
-            String finalCallsign = callsign;
-            isUnique = existingAircraft.stream()
-                    .noneMatch(a -> a.getCallsign().equals(finalCallsign));
-        } while (!isUnique);
-
-        return callsign;
+            String callsign = builder.toString();
+            if (!callsigns.contains(callsign)) {
+                return callsign;
+            }
+        }
+        return callsigns.allocate(prefix, alphabet, numDigitsInCallsign);
     }
 
     /* Prompts the user to choose a terminal from a list of all the control tower's terminals */
-    private Optional<Terminal> chooseTerminal(String title, String header) {
-        var terminalOptions = new TreeMap<String, Terminal>();
-        for (Terminal terminal : viewModel.getControlTower().getTerminals()) {
+    private Optional<TerminalState> chooseTerminal(String title, String header) {
+        var terminalOptions = new TreeMap<String, TerminalState>();
+        for (TerminalState terminal : viewModel.getSnapshot().getTerminals()) {
             terminalOptions.put(terminal.toString(), terminal);
         }
         var choice = getChoice(title, header, "Terminal:",
@@ -483,6 +552,87 @@ public class View {
         return Optional.of(terminalOptions.get(choice.get()));
     }
 
+    /*
+     * Creates the tabs holding the loading aircraft and fleet tables. Table views only create
+     * cells for their visible rows, and each cell looks up its value in the current snapshot,
+     * so the cost of refreshing a table does not depend on the number of rows.
+     */
+    private TabPane createTableTabs() {
+        this.loadingTable = new TableView<>(viewModel.getLoadingRows());
+        loadingTable.setPlaceholder(new Label("No aircraft loading"));
+        loadingTable.getColumns().add(createColumn("Callsign",
+                this::getLoadingState, loading -> loading.getAircraft().getCallsign()));
+        loadingTable.getColumns().add(createColumn("Gate",
+                this::getLoadingState, LoadingState::getGateNumber));
+        loadingTable.getColumns().add(createColumn("Ticks remaining",
+                this::getLoadingState, LoadingState::getTicksRemaining));
+        loadingTable.getColumns().add(createColumn("% occupied",
+                this::getLoadingState, loading -> loading.getAircraft().getOccupancyLevel()));
+        loadingTable.getColumns().add(createColumn("Will load to %",
+                this::getLoadingState,
+                loading -> loading.getAircraft().getCurrentTask().getLoadPercent()));
+
+        this.fleetTable = new TableView<>(viewModel.getFleetRows());
+        fleetTable.setPlaceholder(new Label("No aircraft"));
+        fleetTable.getColumns().add(createColumn("Callsign",
+                this::getAircraftState, AircraftState::getCallsign));
+        fleetTable.getColumns().add(createColumn("Model",
+                this::getAircraftState, state -> state.getCharacteristics().name()));
+        fleetTable.getColumns().add(createColumn("Task",
+                this::getAircraftState, state -> state.getCurrentTask().getType()));
+        fleetTable.getColumns().add(createColumn("Fuel %",
+                this::getAircraftState, AircraftState::getFuelPercentRemaining));
+        fleetTable.getColumns().add(createColumn("% occupied",
+                this::getAircraftState, AircraftState::getOccupancyLevel));
+        fleetTable.getColumns().add(createColumn("Emergency",
+                this::getAircraftState, AircraftState::hasEmergency));
+        fleetTable.getSelectionModel().selectedItemProperty().addListener(
+                (observable, oldValue, newValue) -> {
+                    if (newValue != null) {
+                        viewModel.getSelectedAircraft().set(newValue);
+                        viewModel.registerChange();
+                    }
+                });
+
+        for (TableView<Aircraft> table : List.of(loadingTable, fleetTable)) {
+            table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+            table.setFocusTraversable(false);
+            table.setPrefHeight(150);
+        }
+        var loadingTab = new Tab("Loading aircraft", loadingTable);
+        var fleetTab = new Tab("Fleet", fleetTable);
+        var tabs = new TabPane(loadingTab, fleetTab);
+        tabs.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+        return tabs;
+    }
+
+    /*
+     * Creates an unsortable table column showing the given value of each row's state in the
+     * current snapshot, or nothing if the row has no state. Sorting is disabled as it would
+     * require the value of every row rather than only the visible ones.
+     */
+    private static <S> TableColumn<Aircraft, String> createColumn(String title,
+            Function<Aircraft, S> stateOf, Function<S, Object> value) {
+        var column = new TableColumn<Aircraft, String>(title);
+        column.setSortable(false);
+        column.setCellValueFactory(cell -> {
+            S state = stateOf.apply(cell.getValue());
+            return new ReadOnlyStringWrapper(state == null
+                    ? "" : String.valueOf(value.apply(state)));
+        });
+        return column;
+    }
+
+    /* Returns the state of the given aircraft in the current snapshot */
+    private AircraftState getAircraftState(Aircraft aircraft) {
+        return viewModel.getSnapshot().getAircraftState(aircraft);
+    }
+
+    /* Returns the loading state of the given aircraft in the current snapshot */
+    private LoadingState getLoadingState(Aircraft aircraft) {
+        return viewModel.getSnapshot().getLoadingState(aircraft);
+    }
+
     /* Creates a non-editable text area to display some text information */
     private TextArea createInfoBox(StringProperty contents, int rowCount) {
         var infoBox = new TextArea();
@@ -564,12 +714,19 @@ public class View {
         new AnimationTimer() {
             @Override
             public void handle(long currentNanoTime) {
+                if (viewModel.updateFromSnapshot() && !viewModel.getTurbo().get()) {
+                    canvas.animate();
+                }
                 if (viewModel.isChanged()) {
                     viewModel.notChanged();
-                    canvas.draw();
+                    canvas.requestDraw();
+                    //only the cells of visible rows are updated
+                    loadingTable.refresh();
+                    fleetTable.refresh();
                 }
 
-                if (viewModel.getPaused().get()) {
+                /* In turbo mode, ticks are driven by the simulation thread rather than by frames */
+                if (viewModel.getPaused().get() || viewModel.getTurbo().get()) {
                     lastNanoTime = currentNanoTime;
                     return;
                 }
@@ -580,7 +737,6 @@ public class View {
                 if (timeSpentUnpaused > secondsPerTick.get() * nanosPerSecond) {
                     timeSpentUnpaused = 0;
                     viewModel.tick();
-                    canvas.animate();
                 }
             }
         }.start();
@@ -1,14 +1,26 @@
 package towersim.display;
 
+import javafx.application.Platform;
 import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.control.Alert;
 import towersim.aircraft.Aircraft;
+import towersim.control.AutosaveScheduler;
+import towersim.control.CallsignIndex;
 import towersim.control.ControlTower;
 import towersim.control.ControlTowerInitialiser;
-import towersim.control.LandingQueue;
-import towersim.control.TakeoffQueue;
+import towersim.control.SaveFiles;
+import towersim.control.SaveListener;
+import towersim.control.SaveWriter;
+import towersim.control.SimulationRunner;
+import towersim.control.TowerEvent;
+import towersim.control.TowerSave;
+import towersim.control.TowerSnapshot;
+import towersim.control.TowerSnapshot.AircraftState;
+import towersim.control.TowerSnapshot.LoadingState;
 import towersim.ground.Gate;
 import towersim.ground.Terminal;
 import towersim.tasks.TaskType;
@@ -18,9 +30,12 @@ import towersim.util.NoSuitableGateException;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
 import java.util.StringJoiner;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * View model for the Control Tower Simulation GUI.
@@ -30,6 +45,17 @@ public class ViewModel {
     /** Control tower model containing aircraft and terminals */
     private final ControlTower tower;
 
+    /** Runner that ticks the control tower on its own thread */
+    private final SimulationRunner runner;
+
+    /** Snapshot of the control tower currently shown by the GUI */
+    private TowerSnapshot snapshot;
+
+    /**
+     * Loading events published by the control tower that have not yet been applied to the GUI
+     */
+    private final Queue<TowerEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
     /** Whether the state of the model has changed */
     private final BooleanProperty changed = new SimpleBooleanProperty(false);
 
@@ -37,12 +63,51 @@ public class ViewModel {
     private final StringProperty aircraftInfoText = new SimpleStringProperty(
             "No aircraft selected");
 
-    /** Contents of loading aircraft information text box */
-    private final StringProperty loadingInfoText = new SimpleStringProperty("");
+    /** Aircraft shown in the loading aircraft table, in the order they started loading */
+    private final ObservableList<Aircraft> loadingRows = FXCollections.observableArrayList();
+
+    /** Aircraft shown in the fleet table, in the order they were added to the tower */
+    private final ObservableList<Aircraft> fleetRows = FXCollections.observableArrayList();
+
+    /** Number of events the control tower had dropped when the tables were last updated */
+    private long numDroppedEvents;
+
+    /** Whether the control tower has stopped delivering events to this view model */
+    private volatile boolean eventsEnded;
 
     /** Whether the simulation is paused or not */
     private final BooleanProperty paused = new SimpleBooleanProperty(true);
 
+    /** Whether the simulation ticks as fast as possible rather than at a fixed interval */
+    private final BooleanProperty turbo = new SimpleBooleanProperty(false);
+
+    /** Writer that saves the control tower to files in the background */
+    private final SaveWriter saveWriter = new SaveWriter();
+
+    /** Writer that writes autosave checkpoints, kept apart from user-requested saves */
+    private final SaveWriter autosaveWriter = new SaveWriter();
+
+    /**
+     * Scheduler writing periodic checkpoints of the control tower, or null if autosave is off.
+     * Only accessed on the simulation thread.
+     */
+    private AutosaveScheduler autosave;
+
+    /** Number of autosave checkpoints kept before the oldest is overwritten */
+    public static final int NUM_AUTOSAVE_CHECKPOINTS = 5;
+
+    /** Whether a save is currently being written in the background */
+    private final BooleanProperty saving = new SimpleBooleanProperty(false);
+
+    /**
+     * Number of saves requested from the GUI that have not yet succeeded or failed. Only accessed
+     * on the JavaFX application thread.
+     */
+    private int numSavesInProgress;
+
+    /** Fraction of the save currently being written in the background that has been written */
+    private final DoubleProperty saveProgress = new SimpleDoubleProperty(0);
+
     /** Text appended to window title when the simulation is paused */
     private final StringProperty pausedStatusText = new SimpleStringProperty(" (Paused)");
 
@@ -64,12 +129,6 @@ public class ViewModel {
     /** The aircraft currently taking off (i.e. just went from TAKEOFF to AWAY) */
     private final ObjectProperty<Aircraft> aircraftTakingOff = new SimpleObjectProperty<>();
 
-    /** List of all aircraft whose task is TAKEOFF; used in finding aircraftTakingOff */
-    private List<Aircraft> allTakeoffAircraft = new ArrayList<>();
-
-    /** List of all aircraft whose task is LAND; used in finding aircraftLanding */
-    private List<Aircraft> allLandAircraft = new ArrayList<>();
-
     /** File path of the tick file that we loaded from */
     private final String defaultTickSaveLocation;
 
@@ -108,24 +167,65 @@ public class ViewModel {
         this.defaultQueuesSaveLocation = filenames.get(2);
         this.defaultTerminalsSaveLocation = filenames.get(3);
 
-        this.tower = ControlTowerInitialiser.createControlTower(
-                new FileReader(filenames.get(0)),
-                new FileReader(filenames.get(1)),
-                new FileReader(filenames.get(2)),
-                new FileReader(filenames.get(3)));
+        this.tower = ControlTowerInitialiser.createControlTowerTrusted(filenames);
 
-        this.numTerminals.set(tower.getTerminals().size());
+        this.tower.getEvents().subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
 
-        this.selectedAircraft.addListener((observable, oldValue, newValue) -> {
-            if (newValue == null) {
-                aircraftInfoText.set("No aircraft selected");
-            } else {
-                aircraftInfoText.set(generateAircraftInfoText(newValue));
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(TowerEvent event) {
+                // Keep only the events that change the loading rows
+                switch (event.getType()) {
+                    case LOADING_STARTED:
+                    case LOADING_FINISHED:
+                        pendingEvents.add(event);
+                        break;
+                    default:
+                        break;
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                eventsEnded = true;
+            }
+
+            @Override
+            public void onComplete() {
+                eventsEnded = true;
             }
         });
-        this.loadingInfoText.set(generateLoadingInfoText());
+        this.runner = new SimulationRunner(tower, AirportCanvas.QUEUE_CAPACITY);
+        this.snapshot = runner.getLatestSnapshot();
+
+        this.numTerminals.set(snapshot.getTerminals().size());
+
+        this.selectedAircraft.addListener((observable, oldValue, newValue) -> {
+            aircraftInfoText.set(generateAircraftInfoText(newValue));
+        });
+        this.numDroppedEvents = tower.getNumDroppedEvents();
+        resetLoadingRows();
+        updateFleetRows();
+
+        //tick continuously only while turbo mode is on and the simulation is unpaused
+        this.turbo.addListener((observable, oldValue, newValue) -> updateTurbo());
+        this.paused.addListener((observable, oldValue, newValue) -> updateTurbo());
+    }
 
-        fillTakeoffLandAircraftLists();
+    /* Starts or stops continuous ticking to match the turbo and paused properties */
+    private void updateTurbo() {
+        if (turbo.get() && !paused.get()) {
+            runner.startTurbo();
+        } else {
+            runner.stopTurbo();
+        }
     }
 
     /**
@@ -141,9 +241,8 @@ public class ViewModel {
         dronAlertClicked = new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent actionEvent) {
-                for (Terminal terminal : tower.getTerminals()) {
-                    terminal.declareEmergency();
-                }
+                runner.execute(() -> tower.forEachTerminal(terminal -> !terminal.hasEmergency(),
+                        Terminal::declareEmergency));
                 registerChange();
             }
         };
@@ -163,9 +262,8 @@ public class ViewModel {
         clearDronAlertClicked = new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent actionEvent) {
-                for (Terminal terminal : tower.getTerminals()) {
-                    terminal.clearEmergency();
-                }
+                runner.execute(() -> tower.forEachTerminal(Terminal::hasEmergency,
+                        Terminal::clearEmergency));
                 registerChange();
             }
         };
@@ -201,23 +299,28 @@ public class ViewModel {
         findSuitableGateClicked = new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent actionEvent) {
-                if (getSelectedAircraft() == null) {
+                if (getSelectedAircraft().get() == null) {
                     return;
                 }
                 //aircraft selected
                 Aircraft aircraft = getSelectedAircraft().get();
+                AircraftState state = snapshot.getAircraftState(aircraft);
                 //currently selected aircraft's current task type
-                TaskType currentTask =
-                        aircraft.getTaskList().getCurrentTask().getType();
-                if (currentTask != TaskType.LAND) {
+                if (state == null || state.getCurrentTask().getType() != TaskType.LAND) {
                     return;
                 }
-                try {
-                    Gate gateUnoccupied = tower.findUnoccupiedGate(aircraft);
-                    suitableGateText.set(gateUnoccupied.toString());
-                } catch (NoSuitableGateException e) {
-                    suitableGateText.set("NoSuitableGateException");
-                }
+                //the gates may only be searched on the simulation thread
+                runner.execute(() -> {
+                    String gateText;
+                    try {
+                        Gate gateUnoccupied = tower.findUnoccupiedGate(aircraft);
+                        gateText = gateUnoccupied.toString();
+                    } catch (NoSuitableGateException e) {
+                        gateText = "NoSuitableGateException";
+                    }
+                    String finalGateText = gateText;
+                    Platform.runLater(() -> suitableGateText.set(finalGateText));
+                });
             }
         };
         return findSuitableGateClicked;
@@ -231,8 +334,10 @@ public class ViewModel {
      * <tr><th>Writer</th><th>Format</th></tr>
      * <tr><td>{@code tickWriter}</td><td><pre>
      *ticksElapsed
+     *checksum:checksumDigits
      *</pre> where {@code ticksElapsed} is the number of ticks elapsed, as returned by
-     * {@link ControlTower#getTicksElapsed()}
+     * {@link ControlTower#getTicksElapsed()}, and {@code checksumDigits} is the checksum of the
+     * save as computed by {@link TowerSave#computeChecksum(String, String, String, String)}
      * </td></tr>
      * <tr><td>{@code aircraftWriter}</td><td><pre>
      *numAircraft
@@ -281,6 +386,9 @@ public class ViewModel {
      * number of terminals.
      * </li>
      * </ul></td></tr></table>
+     * <p>
+     * The control tower is read on the simulation thread, and this method waits until all of
+     * the writers have been written to and closed.
      *
      * @param tickWriter writer to which the number of ticks elapsed will be written
      * @param aircraftWriter writer to which the list of aircraft will be written
@@ -293,84 +401,88 @@ public class ViewModel {
      */
     public void saveAs(Writer tickWriter, Writer aircraftWriter, Writer queuesWriter,
             Writer terminalsWithGatesWriter) throws IOException {
+        TowerSave save;
         try {
-            long ticksElapsed = tower.getTicksElapsed();
-            tickWriter.write(String.valueOf(ticksElapsed));
-            tickWriter.close();
-
-            int numAircraft = tower.getAircraft().size();
-            StringBuilder encodedAircraftList = new StringBuilder();
-            //Write as Default file
-            if (numAircraft > 0) {
-                for (Aircraft aircraft : tower.getAircraft()) {
-                    encodedAircraftList.append(aircraft.encode()).append(System.lineSeparator());
-                }
-                //remove last line
-                encodedAircraftList.delete(encodedAircraftList.length() - 1,
-                        encodedAircraftList.length());
-                aircraftWriter.write(String.format("%d" + System.lineSeparator() + "%s",
-                        numAircraft, encodedAircraftList));
-                //Write as Basic file
-            } else {
-                aircraftWriter.write(String.format("%d", numAircraft));
+            save = runner.submit(() -> TowerSave.capture(tower)).get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        List<Writer> writers = List.of(tickWriter, aircraftWriter, queuesWriter,
+                terminalsWithGatesWriter);
+        for (int i = 0; i < writers.size(); i++) {
+            try (Writer writer = writers.get(i)) {
+                writer.write(save.getContents().get(i));
             }
-            aircraftWriter.close();
+        }
+    }
 
-            //encodedTakeoffQueue
-            TakeoffQueue takeoffQueue = new TakeoffQueue();
-            for (Aircraft aircraftTakeOff : allTakeoffAircraft) {
-                takeoffQueue.addAircraft(aircraftTakeOff);
-            }
-            //encodedLandingQueue
-            LandingQueue landingQueue = new LandingQueue();
-            for (Aircraft aircraftLanding : allLandAircraft) {
-                landingQueue.addAircraft(aircraftLanding);
-            }
-            //String reprsentation of callsignN:ticksRemainingN
-            StringBuilder callsignTicks = new StringBuilder();
-            int numLoadingAircraft = tower.getLoadingAircraft().size();
-            //Write as default file
-            if (numLoadingAircraft > 0) {
-                for (Map.Entry<Aircraft, Integer> entry : tower.getLoadingAircraft().entrySet()) {
-                    callsignTicks.append(entry.getKey().getCallsign()).append(":")
-                            .append(entry.getValue()).append(",");
-                }
-                callsignTicks.delete(callsignTicks.length() - 1, callsignTicks.length());
-                queuesWriter.write(String.format("%s" + System.lineSeparator() + "%s"
-                                + System.lineSeparator() + "LoadingAircraft:%d"
-                                + System.lineSeparator() + "%s", takeoffQueue.encode(),
-                        landingQueue.encode(), numLoadingAircraft, callsignTicks));
-                //Write as Basic file
-            } else {
-                queuesWriter.write(String.format("%s" + System.lineSeparator() + "%s"
-                                + System.lineSeparator() + "LoadingAircraft:%d",
-                        takeoffQueue.encode(), landingQueue.encode(), numLoadingAircraft));
+    /**
+     * Saves the current state of the control tower simulation to the given files in the
+     * background, in the same format as {@link #saveAs(Writer, Writer, Writer, Writer)}.
+     * <p>
+     * The tower is captured on the simulation thread between ticks and then written by a
+     * separate writer thread, so neither the simulation nor the GUI waits for the files to be
+     * written. Until every save requested this way has succeeded or failed, {@link #getSaving()}
+     * is true, and {@link #getSaveProgress()} tracks the fraction written. A save that cannot be
+     * captured or handed to the writer is reported to the listener as failed.
+     *
+     * @param filenames paths of the tick, aircraft, queues and terminals with gates files to
+     *                  write, in that order
+     * @param listener listener notified of the save's progress, on the JavaFX application thread
+     */
+    public void saveAsAsync(List<String> filenames, SaveListener listener) {
+        List<String> files = List.copyOf(filenames);
+        SaveListener guiListener = new SaveListener() {
+            @Override
+            public void progressed(double fractionWritten) {
+                Platform.runLater(() -> {
+                    saveProgress.set(fractionWritten);
+                    listener.progressed(fractionWritten);
+                });
             }
-            queuesWriter.close();
 
-
-            int numTerminals = tower.getTerminals().size();
-            StringBuilder terminalsEncoded = new StringBuilder();
-            //Write as default file
-            if (numTerminals > 0) {
-                for (Terminal terminal : tower.getTerminals()) {
-                    terminalsEncoded.append(terminal.encode()).append(System.lineSeparator());
-                }
-                terminalsEncoded.delete(terminalsEncoded.length() - 1, terminalsEncoded.length());
-                terminalsWithGatesWriter.write(String.format("%d" + System.lineSeparator() + "%s",
-                        numTerminals, terminalsEncoded));
-                //Write as Basic file
-            } else {
-                terminalsWithGatesWriter.write(String.format("%d",
-                        numTerminals));
+            @Override
+            public void saved() {
+                Platform.runLater(() -> {
+                    saveFinished();
+                    listener.saved();
+                });
             }
-            terminalsWithGatesWriter.close();
 
-        } catch (IOException e) {
-            throw new IOException();
+            @Override
+            public void failed(IOException e) {
+                Platform.runLater(() -> {
+                    saveFinished();
+                    listener.failed(e);
+                });
+            }
+        };
+        numSavesInProgress++;
+        saving.set(true);
+        saveProgress.set(0);
+        try {
+            runner.execute(() -> {
+                try {
+                    saveWriter.write(TowerSave.capture(tower), files, guiListener);
+                } catch (RuntimeException e) {
+                    //the save never reached the writer, so it will not report back itself
+                    guiListener.failed(new IOException("Could not save the control tower", e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            guiListener.failed(new IOException("The simulation has been shut down", e));
         }
     }
 
+    /* Records that a save requested from the GUI has succeeded or failed */
+    private void saveFinished() {
+        numSavesInProgress--;
+        saving.set(numSavesInProgress > 0);
+    }
+
     /**
      * Returns the control tower linked to this view model.
      *
@@ -382,90 +494,162 @@ public class ViewModel {
     }
 
     /**
-     * Ticks the model and updates the state of the GUI.
+     * Returns the runner that ticks the control tower on its own thread.
+     * <p>
+     * Any action that reads or modifies the control tower after the GUI has started should be
+     * run through {@link SimulationRunner#execute(Runnable)}.
+     *
+     * @return simulation runner
+     */
+    public SimulationRunner getSimulationRunner() {
+        return runner;
+    }
+
+    /**
+     * Returns the snapshot of the control tower currently shown by the GUI.
+     *
+     * @return current snapshot
+     */
+    public TowerSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Requests a tick of the model on the simulation thread.
+     * <p>
+     * The state of the GUI is updated once the resulting snapshot is picked up by
+     * {@link #updateFromSnapshot()}.
      *
      * @given
      */
     public void tick() {
-        tower.tick();
-        this.loadingInfoText.set(generateLoadingInfoText());
+        runner.requestTick();
+    }
+
+    /**
+     * Updates the state of the GUI from the latest snapshot published by the simulation thread,
+     * if it has changed since the last update.
+     * <p>
+     * Only the properties affected by what happened since the last update are recomputed: the
+     * aircraft taking off and landing are those recorded in the snapshot, rows are added to and
+     * removed from the loading aircraft table as the control tower's events report aircraft
+     * starting and finishing loading, and only newly added aircraft are appended to the fleet
+     * table. The cost of an update therefore depends on the activity since the last update
+     * rather than on the number of aircraft. The tables look up the contents of their visible
+     * rows in the current snapshot, so should be refreshed after each update.
+     * <p>
+     * If events were dropped, or the control tower has stopped delivering them, the loading
+     * aircraft table is instead rebuilt from the snapshot.
+     * <p>
+     * Must be called on the JavaFX application thread.
+     *
+     * @return true if at least one tick has elapsed since the last update; false otherwise
+     */
+    public boolean updateFromSnapshot() {
+        TowerSnapshot latestSnapshot = runner.getLatestSnapshot();
+        if (latestSnapshot == this.snapshot) {
+            return false;
+        }
+        TowerSnapshot previousSnapshot = this.snapshot;
+        this.snapshot = latestSnapshot;
+
+        this.numTerminals.set(snapshot.getTerminals().size());
         if (selectedAircraft.isNotNull().get()) {
             this.aircraftInfoText.set(generateAircraftInfoText(selectedAircraft.get()));
         }
-        updateTakeoffLandAircraft();
+        long ticksSinceUpdate = snapshot.getTicksElapsed() - previousSnapshot.getTicksElapsed();
+        boolean ticked = ticksSinceUpdate != 0;
+        applyEvents();
+        if (ticksSinceUpdate == 1) {
+            AircraftState tookOff = snapshot.getAircraftTookOff();
+            AircraftState landed = snapshot.getAircraftLanded();
+            this.aircraftTakingOff.set(tookOff == null ? null : tookOff.getAircraft());
+            this.aircraftLanding.set(landed == null ? null : landed.getAircraft());
+        } else if (ticksSinceUpdate > 1) {
+            // Ticks are outpacing frames, so there is no single aircraft to animate
+            this.aircraftTakingOff.set(null);
+            this.aircraftLanding.set(null);
+        }
+        long droppedEvents = tower.getNumDroppedEvents();
+        if (eventsEnded) {
+            // No more events will arrive, so the rows must follow the snapshot from now on
+            resetLoadingRows();
+        } else if (droppedEvents != this.numDroppedEvents) {
+            // Some loading events were lost, so the rows can only be rebuilt from the snapshot
+            this.numDroppedEvents = droppedEvents;
+            resetLoadingRows();
+        }
+        updateFleetRows();
         registerChange();
+        return ticked;
     }
 
-    /* Updates the lists of aircraft currently taking off and landing */
-    private void updateTakeoffLandAircraft() {
-        this.aircraftTakingOff.set(null);
-        this.aircraftLanding.set(null);
-        for (Aircraft aircraft : getControlTower().getAircraft()) {
-            TaskType currentTaskType = aircraft.getTaskList().getCurrentTask().getType();
-            if (currentTaskType == TaskType.AWAY && allTakeoffAircraft.contains(aircraft)) {
-                // Aircraft has just taken off
-                this.aircraftTakingOff.set(aircraft);
-            }
-            if ((currentTaskType == TaskType.WAIT || currentTaskType == TaskType.LOAD)
-                    && allLandAircraft.contains(aircraft)) {
-                // Aircraft has just landed
-                this.aircraftLanding.set(aircraft);
+    /*
+     * Applies the pending events that happened up to the tick of the current snapshot, adding or
+     * removing the loading rows of aircraft that started or finished loading. Events are
+     * delivered asynchronously, so any that arrive late are applied with a later snapshot.
+     */
+    private void applyEvents() {
+        long tick = snapshot.getTicksElapsed();
+        TowerEvent event;
+        while ((event = pendingEvents.peek()) != null && event.getTick() <= tick) {
+            pendingEvents.poll();
+            switch (event.getType()) {
+                case LOADING_STARTED:
+                    this.loadingRows.add(event.getAircraft());
+                    break;
+                case LOADING_FINISHED:
+                    this.loadingRows.remove(event.getAircraft());
+                    break;
+                default:
+                    break;
             }
         }
-        fillTakeoffLandAircraftLists();
     }
 
-    /*
-     * Places all aircraft that have a TAKEOFF task into the list of aircraft taking off;
-     * same for LAND
-     */
-    private void fillTakeoffLandAircraftLists() {
-        this.allTakeoffAircraft = findAircraftWithTask(getControlTower().getAircraft(),
-                TaskType.TAKEOFF);
-        this.allLandAircraft = findAircraftWithTask(getControlTower().getAircraft(),
-                TaskType.LAND);
+    /* Replaces the loading rows with the aircraft loading in the current snapshot */
+    private void resetLoadingRows() {
+        List<Aircraft> loading = new ArrayList<>(snapshot.getLoadingAircraft().size());
+        for (LoadingState state : snapshot.getLoadingAircraft()) {
+            loading.add(state.getAircraft().getAircraft());
+        }
+        this.loadingRows.setAll(loading);
     }
 
-    /* Returns all aircraft in the given list whose current task's type is the given type */
-    private List<Aircraft> findAircraftWithTask(List<Aircraft> aircraft, TaskType taskType) {
-        return aircraft.stream()
-                .filter(a -> a.getTaskList().getCurrentTask().getType() == taskType)
-                .collect(Collectors.toList());
+    /* Appends the aircraft added to the tower since the last update to the fleet rows */
+    private void updateFleetRows() {
+        List<AircraftState> allAircraft = snapshot.getAircraft();
+        //aircraft are never removed from the tower, so only new aircraft need to be added
+        if (allAircraft.size() > this.fleetRows.size()) {
+            List<Aircraft> added = new ArrayList<>(allAircraft.size() - this.fleetRows.size());
+            for (AircraftState state
+                    : allAircraft.subList(this.fleetRows.size(), allAircraft.size())) {
+                added.add(state.getAircraft());
+            }
+            this.fleetRows.addAll(added);
+        }
     }
 
     /* Generates the formatted information text for the given aircraft */
     private String generateAircraftInfoText(Aircraft aircraft) {
+        AircraftState state = aircraft == null ? null : snapshot.getAircraftState(aircraft);
+        if (state == null) {
+            return "No aircraft selected";
+        }
         StringJoiner lineJoiner = new StringJoiner(System.lineSeparator());
         lineJoiner.add("Currently selected aircraft:");
-        lineJoiner.add("Callsign:       \t" + aircraft.getCallsign());
-        lineJoiner.add("Cargo type:\t" + aircraft.getClass().getSimpleName());
-        lineJoiner.add("Aircraft type:\t" + aircraft.getCharacteristics().type);
-        lineJoiner.add("Model:          \t" + aircraft.getCharacteristics().name());
-        lineJoiner.add("Fuel % left:\t" + aircraft.getFuelPercentRemaining() + "%");
-        lineJoiner.add("% occupied:\t" + aircraft.calculateOccupancyLevel() + "%");
-        lineJoiner.add("Emergency:\t" + aircraft.hasEmergency());
-        lineJoiner.add("Task list:   \t" + aircraft.getTaskList().encode());
+        lineJoiner.add("Callsign:       \t" + state.getCallsign());
+        lineJoiner.add("Cargo type:\t" + state.getCargoType());
+        lineJoiner.add("Aircraft type:\t" + state.getCharacteristics().type);
+        lineJoiner.add("Model:          \t" + state.getCharacteristics().name());
+        lineJoiner.add("Fuel % left:\t" + state.getFuelPercentRemaining() + "%");
+        lineJoiner.add("% occupied:\t" + state.getOccupancyLevel() + "%");
+        lineJoiner.add("Emergency:\t" + state.hasEmergency());
+        lineJoiner.add("Task list:   \t" + state.getEncodedTaskList());
 
         return lineJoiner.toString();
     }
 
-    /* Generates the formatted information text for the map of loading aircraft */
-    private String generateLoadingInfoText() {
-        Map<Aircraft, Integer> loadingAircraft = this.getControlTower().getLoadingAircraft();
-        StringJoiner joiner = new StringJoiner(System.lineSeparator());
-        joiner.add("Loading aircraft: " + (loadingAircraft.isEmpty() ? "none" : ""));
-        for (Map.Entry<Aircraft, Integer> entry : loadingAircraft.entrySet()) {
-            Aircraft aircraft = entry.getKey();
-            joiner.add(aircraft.getCallsign() + " at gate "
-                    + tower.findGateOfAircraft(aircraft).getGateNumber() + ":\t"
-                    + entry.getValue().toString()
-                    + " ticks remaining (currently at " + aircraft.calculateOccupancyLevel()
-                    + "%, will load to " + aircraft.getTaskList().getCurrentTask().getLoadPercent()
-                    + "%)");
-        }
-        return joiner.toString();
-    }
-
     /**
      * Toggles whether the simulation is paused.
      *
@@ -490,10 +674,70 @@ public class ViewModel {
      * @given
      */
     public void save() throws IOException {
-        saveAs(new FileWriter(this.defaultTickSaveLocation),
-                new FileWriter(this.defaultAircraftSaveLocation),
-                new FileWriter(this.defaultQueuesSaveLocation),
-                new FileWriter((this.defaultTerminalsSaveLocation)));
+        saveAs(SaveFiles.openWriter(this.defaultTickSaveLocation),
+                SaveFiles.openWriter(this.defaultAircraftSaveLocation),
+                SaveFiles.openWriter(this.defaultQueuesSaveLocation),
+                SaveFiles.openWriter(this.defaultTerminalsSaveLocation));
+    }
+
+    /**
+     * Sets how often the control tower is automatically saved, replacing any previous autosave
+     * setting.
+     * <p>
+     * Checkpoints are written in the background to an {@code autosave} directory next to the
+     * tick file the simulation was loaded from, keeping the {@link #NUM_AUTOSAVE_CHECKPOINTS}
+     * most recent. A checkpoint that falls due while the previous one is still being written is
+     * skipped. If a checkpoint cannot be written, an error dialog is shown and autosave is
+     * turned off.
+     *
+     * @param interval number of ticks between checkpoints, or zero to turn autosave off
+     */
+    public void setAutosaveInterval(int interval) {
+        runner.execute(() -> {
+            if (autosave != null) {
+                runner.removePostTickAction(autosave);
+                autosave = null;
+            }
+            if (interval < 1) {
+                return;
+            }
+            File directory = new File(new File(defaultTickSaveLocation).getAbsoluteFile()
+                    .getParentFile(), "autosave");
+            try {
+                autosave = new AutosaveScheduler(tower, autosaveWriter, directory, interval,
+                        NUM_AUTOSAVE_CHECKPOINTS, new SaveListener() {
+                            @Override
+                            public void saved() {
+                            }
+
+                            @Override
+                            public void failed(IOException e) {
+                                setAutosaveInterval(0);
+                                Platform.runLater(() -> createErrorDialog(
+                                        "Autosave failed; autosave has been turned off",
+                                        e.getMessage()));
+                            }
+                        });
+            } catch (IOException e) {
+                Platform.runLater(() -> createErrorDialog("Cannot turn on autosave",
+                        e.getMessage()));
+                return;
+            }
+            runner.addPostTickAction(autosave);
+        });
+    }
+
+    /**
+     * Saves the current state of the control tower simulation to the same files it was loaded
+     * from when the application was launched, in the background.
+     * <p>
+     * See {@link #saveAsAsync(List, SaveListener)}.
+     *
+     * @param listener listener notified of the save's progress, on the JavaFX application thread
+     */
+    public void saveAsync(SaveListener listener) {
+        saveAsAsync(List.of(this.defaultTickSaveLocation, this.defaultAircraftSaveLocation,
+                this.defaultQueuesSaveLocation, this.defaultTerminalsSaveLocation), listener);
     }
 
     /**
@@ -535,6 +779,37 @@ public class ViewModel {
         return paused;
     }
 
+    /**
+     * Returns the property storing whether the simulation is in turbo mode.
+     * <p>
+     * In turbo mode, the control tower is ticked continuously on the simulation thread while the
+     * simulation is unpaused, and the GUI shows the latest state at display rate.
+     *
+     * @return turbo mode property
+     */
+    public BooleanProperty getTurbo() {
+        return turbo;
+    }
+
+    /**
+     * Returns the property storing whether a save is currently being written in the background.
+     *
+     * @return saving property
+     */
+    public ReadOnlyBooleanProperty getSaving() {
+        return saving;
+    }
+
+    /**
+     * Returns the property storing the fraction, from 0 to 1, of the save currently being written
+     * in the background that has been written so far.
+     *
+     * @return save progress property
+     */
+    public ReadOnlyDoubleProperty getSaveProgress() {
+        return saveProgress;
+    }
+
     /**
      * Returns the property storing the contents of the aircraft info text box.
      *
@@ -546,13 +821,29 @@ public class ViewModel {
     }
 
     /**
-     * Returns the property storing the contents of the loading aircraft info text box.
+     * Returns the rows of the loading aircraft table: the aircraft currently loading at a gate,
+     * in the order they started loading.
+     * <p>
+     * The loading state of each row should be looked up in {@link #getSnapshot()} when the row
+     * is shown.
      *
-     * @return loading aircraft info text box
-     * @given
+     * @return loading aircraft rows
+     */
+    public ObservableList<Aircraft> getLoadingRows() {
+        return loadingRows;
+    }
+
+    /**
+     * Returns the rows of the fleet table: every aircraft managed by the control tower, in the
+     * order they were added.
+     * <p>
+     * The state of each row should be looked up in {@link #getSnapshot()} when the row is
+     * shown.
+     *
+     * @return fleet rows
      */
-    public StringProperty getLoadingInfoText() {
-        return loadingInfoText;
+    public ObservableList<Aircraft> getFleetRows() {
+        return fleetRows;
     }
 
     /**
@@ -595,6 +886,27 @@ public class ViewModel {
         return suitableGateText;
     }
 
+    /**
+     * Selects the first aircraft, in callsign order, whose callsign starts with the given text,
+     * so that an exact callsign selects that aircraft.
+     * <p>
+     * The aircraft is found in the control tower's {@link CallsignIndex}, so the time taken does
+     * not grow with the number of aircraft, and the simulation thread is not waited for.
+     *
+     * @param callsign callsign, or start of a callsign, to search for; case must match
+     *
+     * @return true if an aircraft was selected; false if no callsign starts with the text
+     */
+    public boolean selectAircraftByCallsign(String callsign) {
+        List<Aircraft> found = tower.getCallsignIndex().findByPrefix(callsign.strip(), 1);
+        if (found.isEmpty()) {
+            return false;
+        }
+        this.selectedAircraft.set(found.get(0));
+        registerChange();
+        return true;
+    }
+
     /**
      * Returns the property storing the currently selected aircraft; or null if no aircraft is
      * selected.
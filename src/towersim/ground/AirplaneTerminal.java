@@ -16,4 +16,17 @@ public class AirplaneTerminal extends Terminal {
     public AirplaneTerminal(int terminalNumber) {
         super(terminalNumber);
     }
+
+    /**
+     * Creates a new AirplaneTerminal with the given unique terminal number that can hold up
+     * to the given number of gates.
+     * <p>
+     * See {@link Terminal#Terminal(int, int)}.
+     *
+     * @param terminalNumber identifying number of this airplane terminal
+     * @param gateCapacity maximum number of gates that may be added to this terminal
+     */
+    public AirplaneTerminal(int terminalNumber, int gateCapacity) {
+        super(terminalNumber, gateCapacity);
+    }
 }
@@ -1,15 +1,17 @@
 package towersim.ground;
 
 import towersim.aircraft.Aircraft;
+import towersim.util.Encodable;
 import towersim.util.NoSpaceException;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
  * Represents an aircraft gate with facilities for a single aircraft to be parked.
  * @ass1
  */
-public class Gate {
+public class Gate implements Encodable {
 
     /** Unique (airport-wide) gate number. */
     private final int gateNumber;
@@ -17,6 +19,12 @@ public class Gate {
     /** Aircraft currently occupying the gate; or null if gate is empty. */
     private Aircraft aircraftAtGate;
 
+    /** Terminal this gate has been added to; or null if it is not part of a terminal. */
+    private Terminal terminal;
+
+    /** Position of this gate among the gates of its terminal, in the order they were added. */
+    private int positionInTerminal;
+
     /**
      * Creates a new Gate with the given unique gate number.
      * <p>
@@ -58,6 +66,9 @@ public class Gate {
                     + " is occupied, cannot park aircraft");
         }
         this.aircraftAtGate = aircraft;
+        if (this.isOccupied()) {
+            this.occupancyChanged();
+        }
     }
 
     /**
@@ -67,7 +78,50 @@ public class Gate {
      * @ass1
      */
     public void aircraftLeaves() {
+        boolean wasOccupied = this.isOccupied();
         this.aircraftAtGate = null;
+        if (wasOccupied) {
+            this.occupancyChanged();
+        }
+    }
+
+    /**
+     * Records the terminal this gate belongs to, so that the terminal can be told when the gate
+     * becomes occupied or unoccupied.
+     *
+     * @param terminal terminal the gate has been added to
+     * @param position position of this gate among the gates of the terminal
+     */
+    void setTerminal(Terminal terminal, int position) {
+        this.terminal = terminal;
+        this.positionInTerminal = position;
+    }
+
+    /**
+     * Returns the terminal this gate has been added to.
+     *
+     * @return terminal containing this gate; or null if it is not part of a terminal
+     */
+    public Terminal getTerminal() {
+        return this.terminal;
+    }
+
+    /**
+     * Returns the position of this gate among the gates of the terminal it was added to.
+     *
+     * @return position of this gate in its terminal
+     */
+    int getPositionInTerminal() {
+        return this.positionInTerminal;
+    }
+
+    /**
+     * Informs the terminal this gate belongs to (if any) that the gate's occupancy has changed.
+     */
+    private void occupancyChanged() {
+        if (this.terminal != null) {
+            this.terminal.gateOccupancyChanged(this);
+        }
     }
 
     /**
@@ -149,8 +203,8 @@ public class Gate {
     }
 
     /**
-     * Returns the machine-readable string representation of this gate.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this gate to the given destination.
+     * The format of the string to append is
      *
      * gateNumber:callsign
      * where
@@ -161,12 +215,16 @@ public class Gate {
      * 12:ABC102
      * For example:
      * 8:empty
-     * @return encoded string representation of this gate
+     * @param out destination to append the encoded gate to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        out.append(Integer.toString(this.gateNumber)).append(':');
         if (this.getAircraftAtGate() == null) {
-            return String.format("%d:empty", this.gateNumber);
+            out.append("empty");
+        } else {
+            out.append(this.getAircraftAtGate().getCallsign());
         }
-        return String.format("%d:%s", this.gateNumber, this.getAircraftAtGate().getCallsign());
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package towersim.ground;
+
+/**
+ * Listener that is notified whenever the number of gates available for aircraft in a terminal
+ * may have changed.
+ * <p>
+ * This happens when a gate is added to the terminal, when an aircraft parks at or leaves one of
+ * its gates, and when a state of emergency is declared or cleared on the terminal.
+ */
+@FunctionalInterface
+public interface GateAvailabilityListener {
+    /**
+     * Called after the availability of gates in the given terminal has changed.
+     *
+     * @param terminal terminal whose gate availability changed
+     */
+    void availabilityChanged(Terminal terminal);
+}
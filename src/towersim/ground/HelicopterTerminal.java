@@ -16,4 +16,17 @@ public class HelicopterTerminal extends Terminal {
     public HelicopterTerminal(int terminalNumber) {
         super(terminalNumber);
     }
+
+    /**
+     * Creates a new HelicopterTerminal with the given unique terminal number that can hold up
+     * to the given number of gates.
+     * <p>
+     * See {@link Terminal#Terminal(int, int)}.
+     *
+     * @param terminalNumber identifying number of this helicopter terminal
+     * @param gateCapacity maximum number of gates that may be added to this terminal
+     */
+    public HelicopterTerminal(int terminalNumber, int gateCapacity) {
+        super(terminalNumber, gateCapacity);
+    }
 }
@@ -1,21 +1,30 @@
 package towersim.ground;
 
+import towersim.util.EmergencyListener;
 import towersim.util.EmergencyState;
+import towersim.util.Encodable;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 import towersim.util.OccupancyLevel;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents an airport terminal building, containing several aircraft gates.
+ * <p>
+ * By default a terminal holds at most {@link #MAX_NUM_GATES} gates, but terminals may be created
+ * with a larger gate capacity. Gate occupancy is tracked incrementally as aircraft park and leave,
+ * so the occupancy level and the first unoccupied gate can be found without scanning every gate.
  * @ass1
  */
-public abstract class Terminal implements EmergencyState, OccupancyLevel {
+public abstract class Terminal implements EmergencyState, OccupancyLevel, Encodable {
     /**
-     * Maximum possible number of gates allowed at a single terminal.
+     * Maximum possible number of gates allowed at a single terminal, unless a larger gate
+     * capacity is given when the terminal is created.
      * @ass1
      */
     public static final int MAX_NUM_GATES = 6;
@@ -23,12 +32,27 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
     /** Unique terminal number to identify this terminal. */
     private final int terminalNumber;
 
+    /** Maximum number of gates that may be added to this terminal. */
+    private final int gateCapacity;
+
     /** List of gates in this terminal. */
     private final List<Gate> gates;
 
+    /** Positions in {@link #gates} of the gates that currently have an aircraft parked at them. */
+    private final BitSet occupiedGates;
+
     /** Whether or not the terminal is currently in a state of emergency. */
     private boolean emergency;
 
+    /** Number of gates in this terminal that currently have an aircraft parked at them. */
+    private int numOccupiedGates;
+
+    /** Listeners notified whenever the availability of gates in this terminal changes. */
+    private final List<GateAvailabilityListener> availabilityListeners;
+
+    /** Listeners notified whenever a state of emergency is declared or cleared. */
+    private final List<EmergencyListener> emergencyListeners;
+
     /**
      * Creates a new Terminal with the given unique terminal number.
      * <p>
@@ -42,9 +66,31 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      * @ass1
      */
     protected Terminal(int terminalNumber) {
+        this(terminalNumber, MAX_NUM_GATES);
+    }
+
+    /**
+     * Creates a new Terminal with the given unique terminal number that can hold up to the given
+     * number of gates.
+     * <p>
+     * See {@link #Terminal(int)}.
+     *
+     * @param terminalNumber identifying number of this terminal
+     * @param gateCapacity maximum number of gates that may be added to this terminal
+     * @throws IllegalArgumentException if gateCapacity is less than zero
+     */
+    protected Terminal(int terminalNumber, int gateCapacity) {
+        if (gateCapacity < 0) {
+            throw new IllegalArgumentException("Gate capacity cannot be negative");
+        }
         this.terminalNumber = terminalNumber;
-        this.gates = new ArrayList<>();
+        this.gateCapacity = gateCapacity;
+        this.gates = new ArrayList<>(Math.min(gateCapacity, MAX_NUM_GATES));
+        this.occupiedGates = new BitSet();
         this.emergency = false;
+        this.numOccupiedGates = 0;
+        this.availabilityListeners = new ArrayList<>();
+        this.emergencyListeners = new ArrayList<>();
     }
 
     /**
@@ -57,21 +103,40 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
         return terminalNumber;
     }
 
+    /**
+     * Returns the maximum number of gates that may be added to this terminal.
+     * <p>
+     * This is {@link #MAX_NUM_GATES} unless a different capacity was given when the terminal
+     * was created.
+     *
+     * @return gate capacity of this terminal
+     */
+    public int getGateCapacity() {
+        return this.gateCapacity;
+    }
+
     /**
      * Adds a gate to the terminal.
      * <p>
-     * If the terminal is currently at maximum capacity ({@link #MAX_NUM_GATES}), then the gate
-     * should not be added, and instead a NoSpaceException should be thrown.
+     * If the terminal is currently at maximum capacity ({@link #getGateCapacity()}), then the
+     * gate should not be added, and instead a NoSpaceException should be thrown.
      *
      * @param gate gate to add to terminal
      * @throws NoSpaceException if there is no space at the terminal for the new gate
      * @ass1
      */
     public void addGate(Gate gate) throws NoSpaceException {
-        if (this.gates.size() == MAX_NUM_GATES) {
-            throw new NoSpaceException("Maximum number of gates reached (" + MAX_NUM_GATES + ")");
+        if (this.gates.size() >= this.gateCapacity) {
+            throw new NoSpaceException("Maximum number of gates reached ("
+                    + this.gateCapacity + ")");
+        }
+        gate.setTerminal(this, this.gates.size());
+        if (gate.isOccupied()) {
+            this.occupiedGates.set(this.gates.size());
+            this.numOccupiedGates++;
         }
         this.gates.add(gate);
+        this.notifyAvailabilityListeners();
     }
 
     /**
@@ -102,21 +167,114 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      * @ass1
      */
     public Gate findUnoccupiedGate() throws NoSuitableGateException {
-        for (Gate gate : this.gates) {
-            if (!gate.isOccupied()) {
-                return gate;
-            }
+        int firstFree = this.occupiedGates.nextClearBit(0);
+        if (firstFree < this.gates.size()) {
+            return this.gates.get(firstFree);
         }
         throw new NoSuitableGateException("No unoccupied gate in terminal " + this.terminalNumber);
     }
 
+    /**
+     * Returns the number of gates in this terminal that do not have an aircraft parked at them.
+     * <p>
+     * This does not take into account whether the terminal is in a state of emergency.
+     *
+     * @return number of unoccupied gates
+     */
+    public int getNumUnoccupiedGates() {
+        return this.gates.size() - this.numOccupiedGates;
+    }
+
+    /**
+     * Registers the given listener to be notified whenever the availability of gates in this
+     * terminal changes.
+     *
+     * @param listener listener to notify
+     */
+    public void addAvailabilityListener(GateAvailabilityListener listener) {
+        this.availabilityListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener so that it is no longer notified of changes in gate availability.
+     * <p>
+     * If the listener was never added, no action is taken.
+     *
+     * @param listener listener to remove
+     */
+    public void removeAvailabilityListener(GateAvailabilityListener listener) {
+        this.availabilityListeners.remove(listener);
+    }
+
+    /**
+     * Registers the given listener to be notified whenever a state of emergency is declared or
+     * cleared on this terminal.
+     *
+     * @param listener listener to notify
+     */
+    public void addEmergencyListener(EmergencyListener listener) {
+        this.emergencyListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener so that it is no longer notified of emergencies.
+     * <p>
+     * If the listener was never added, no action is taken.
+     *
+     * @param listener listener to remove
+     */
+    public void removeEmergencyListener(EmergencyListener listener) {
+        this.emergencyListeners.remove(listener);
+    }
+
+    /**
+     * Updates the count of occupied gates after the given gate of this terminal had an aircraft
+     * park at it or leave it.
+     *
+     * @param gate gate whose occupancy changed
+     */
+    void gateOccupancyChanged(Gate gate) {
+        int position = gate.getPositionInTerminal();
+        if (gate.isOccupied()) {
+            this.occupiedGates.set(position);
+            this.numOccupiedGates++;
+        } else {
+            this.occupiedGates.clear(position);
+            this.numOccupiedGates--;
+        }
+        this.notifyAvailabilityListeners();
+    }
+
+    /**
+     * Notifies all availability listeners that the availability of gates in this terminal has
+     * changed.
+     */
+    private void notifyAvailabilityListeners() {
+        for (GateAvailabilityListener listener : this.availabilityListeners) {
+            listener.availabilityChanged(this);
+        }
+    }
+
+    /**
+     * Notifies all emergency listeners that a state of emergency was declared or cleared.
+     */
+    private void notifyEmergencyListeners() {
+        for (EmergencyListener listener : this.emergencyListeners) {
+            listener.emergencyChanged(this);
+        }
+    }
+
     /**
      * {@inheritDoc}
      * @ass1
      */
     @Override
     public void declareEmergency() {
-        this.emergency = true;
+        if (!this.emergency) {
+            this.emergency = true;
+            this.notifyAvailabilityListeners();
+            this.notifyEmergencyListeners();
+        }
     }
 
     /**
@@ -125,7 +283,11 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      */
     @Override
     public void clearEmergency() {
-        this.emergency = false;
+        if (this.emergency) {
+            this.emergency = false;
+            this.notifyAvailabilityListeners();
+            this.notifyEmergencyListeners();
+        }
     }
 
     /**
@@ -151,13 +313,10 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      */
     @Override
     public int calculateOccupancyLevel() {
-        int numOccupiedGates = 0;
-        for (Gate gate : this.gates) {
-            if (gate.isOccupied()) {
-                numOccupiedGates++;
-            }
+        if (this.gates.isEmpty()) {
+            return 0;
         }
-        return (int) Math.round(100 * (double) numOccupiedGates / this.gates.size());
+        return (int) Math.round(100 * (double) this.numOccupiedGates / this.gates.size());
     }
 
     /**
@@ -229,10 +388,10 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
     }
 
     /**
-     * Returns the machine-readable string representation of this terminal.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this terminal to the given destination.
+     * The format of the string to append is
      *
-     * TerminalType:terminalNumber:emergency:numGates
+     * TerminalType:terminalNumber:emergency:numGates[:gateCapacity]
      * encodedGate1
      * encodedGate2
      * ...
@@ -242,6 +401,8 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      * terminalNumber is the terminal number of this terminal
      * emergency is whether or not this terminal is in a state of emergency
      * numGates is the number of gates in this terminal
+     * gateCapacity is the gate capacity of this terminal, which is only appended if it is not
+     * MAX_NUM_GATES, so that terminals with the default capacity are encoded as before
      * encodedGateX is the encoded representation of the Xth gate in this terminal, for X between
      * 1 and N inclusive, where N is the number of gates, in the same order as returned by
      * getGates()
@@ -252,16 +413,23 @@ public abstract class Terminal implements EmergencyState, OccupancyLevel {
      * 1:empty
      * 2:ABC123
      * 3:empty
-     * @return encoded string representation of this terminal
+     * For example, for a terminal created with a gate capacity of 10:
+     * AirplaneTerminal:2:false:0:10
+     * @param out destination to append the encoded terminal to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
-        StringBuilder encodedString = new StringBuilder();
-        encodedString.append(String.format("%s:%d:%s:%d", this.getClass().getSimpleName(),
-                this.getTerminalNumber(),
-                this.emergency, this.gates.size()));
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        out.append(this.getClass().getSimpleName())
+                .append(':').append(Integer.toString(this.getTerminalNumber()))
+                .append(':').append(this.emergency ? "true" : "false")
+                .append(':').append(Integer.toString(this.gates.size()));
+        if (this.gateCapacity != MAX_NUM_GATES) {
+            out.append(':').append(Integer.toString(this.gateCapacity));
+        }
         for (Gate gate : this.gates) {
-            encodedString.append(System.lineSeparator()).append(gate.encode());
+            out.append(System.lineSeparator());
+            gate.encodeTo(out);
         }
-        return String.valueOf(encodedString);
     }
 }
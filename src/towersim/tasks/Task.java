@@ -1,5 +1,8 @@
 package towersim.tasks;
 
+import towersim.util.Encodable;
+
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -9,7 +12,7 @@ import java.util.Objects;
  * Tasks relate to an aircraft's movement and ground operations.
  * @ass1
  */
-public class Task {
+public class Task implements Encodable {
     /** Type of task. */
     private final TaskType type;
 
@@ -85,12 +88,12 @@ public class Task {
     }
 
     /**
-     * Returns the machine-readable string representation of this task.
-     * If this is a LOAD-type task, the format of the string to return is
+     * Appends the machine-readable representation of this task to the given destination.
+     * If this is a LOAD-type task, the format of the string to append is
      *
      * LOAD@loadPercent
      * where loadPercent is the task's load percentage.
-     * If this is not a LOAD-type task, the format of the string to return is
+     * If this is not a LOAD-type task, the format of the string to append is
      *
      * TASKTYPE
      * where TASKTYPE is the name of the task's task type (see Enum.name()).
@@ -99,13 +102,15 @@ public class Task {
      * LOAD@20
      * For example:
      * WAIT
-     * @return encoded string representation of this task
+     * @param out destination to append the encoded task to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        out.append(this.type.name());
         if (this.type == TaskType.LOAD) {
-            return this.type + "@" + this.loadPercent;
+            out.append('@').append(Integer.toString(this.loadPercent));
         }
-        return String.valueOf(this.type);
     }
 
     /**
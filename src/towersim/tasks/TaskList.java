@@ -1,16 +1,23 @@
 package towersim.tasks;
 
+import towersim.util.Encodable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents a circular list of tasks for an aircraft to cycle through.
  * @ass1
  */
-public class TaskList {
+public class TaskList implements Encodable {
     /** List of tasks to cycle through. */
     private final List<Task> tasks;
     /** Index of current task in tasks list. */
     private int currentTaskIndex;
+    /** Listeners notified whenever the current task changes. */
+    private final List<TaskTransitionListener> transitionListeners;
 
     /**
      * Creates a new TaskList with the given list of tasks.
@@ -24,6 +31,7 @@ public class TaskList {
     public TaskList(List<Task> tasks) {
         this.tasks = tasks;
         this.currentTaskIndex = 0;
+        this.transitionListeners = new ArrayList<>();
         //List argument cannot be empty.
         if (tasks.isEmpty()) {
             throw new IllegalArgumentException();
@@ -103,6 +111,40 @@ public class TaskList {
         return this.tasks.get(nextTaskIndex);
     }
 
+    /**
+     * Returns the position of the current task in the list of tasks, starting from 0.
+     *
+     * @return index of the current task
+     */
+    public int getCurrentTaskIndex() {
+        return this.currentTaskIndex;
+    }
+
+    /**
+     * Returns the encoded representation of this task list as it would be if the task at the
+     * given position were the current task, in the format described in
+     * {@link #encodeTo(Appendable)}.
+     * <p>
+     * Only the list of tasks is read, which never changes, so a task list may be encoded as it
+     * was at an earlier time by passing the index that was current then.
+     *
+     * @param taskIndex index of the task to encode first, as returned by
+     *                  {@link #getCurrentTaskIndex()}
+     *
+     * @return encoded task list starting from the given task
+     * @throws IndexOutOfBoundsException if taskIndex is not the index of a task in the list
+     */
+    public String encodeFrom(int taskIndex) {
+        StringBuilder encoded = new StringBuilder();
+        try {
+            this.encodeTo(encoded, taskIndex);
+        } catch (IOException e) {
+            //appending to a StringBuilder never throws an IOException
+            throw new UncheckedIOException(e);
+        }
+        return encoded.toString();
+    }
+
     /**
      * Moves the reference to the current task forward by one in the circular task list.
      * <p>
@@ -114,7 +156,34 @@ public class TaskList {
      * @ass1
      */
     public void moveToNextTask() {
+        Task previousTask = this.getCurrentTask();
         this.currentTaskIndex = (this.currentTaskIndex + 1) % this.tasks.size();
+        Task currentTask = this.getCurrentTask();
+        for (TaskTransitionListener listener : this.transitionListeners) {
+            listener.taskTransitioned(previousTask, currentTask);
+        }
+    }
+
+    /**
+     * Registers the given listener to be notified every time {@link #moveToNextTask()} is called.
+     * <p>
+     * Listeners are notified in the order in which they were added.
+     *
+     * @param listener listener to notify of task transitions
+     */
+    public void addTransitionListener(TaskTransitionListener listener) {
+        this.transitionListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener so that it is no longer notified of task transitions.
+     * <p>
+     * If the listener was never added, no action is taken.
+     *
+     * @param listener listener to remove
+     */
+    public void removeTransitionListener(TaskTransitionListener listener) {
+        this.transitionListeners.remove(listener);
     }
 
     /**
@@ -143,8 +212,8 @@ public class TaskList {
     }
 
     /**
-     * Returns the machine-readable string representation of this task list.
-     * The format of the string to return is
+     * Appends the machine-readable representation of this task list to the given destination.
+     * The format of the string to append is
      *
      * encodedTask1,encodedTask2,...,encodedTaskN
      * where encodedTaskX is the encoded representation of the Xth task in the task list, for  X
@@ -153,15 +222,22 @@ public class TaskList {
      * For example, for a task list with 6 tasks and a current task of WAIT:
      *
      * WAIT,LOAD@75,TAKEOFF,AWAY,AWAY,LAND
-     * @return encoded string representation of this task list
+     * @param out destination to append the encoded task list to
+     * @throws IOException if the destination throws an IOException
      */
-    public String encode() {
-        StringBuilder encodedString = new StringBuilder();
-        encodedString.append(this.getCurrentTask().encode());
+    @Override
+    public void encodeTo(Appendable out) throws IOException {
+        this.encodeTo(out, this.currentTaskIndex);
+    }
+
+    /* Appends the encoded task list to the given destination, starting from the given task */
+    private void encodeTo(Appendable out, int firstTaskIndex) throws IOException {
+        this.tasks.get(firstTaskIndex).encodeTo(out);
+        //read ahead by index so that encoding does not move the current task
         for (int i = 1; i < tasks.size(); i++) {
-            encodedString.append(",").append(this.getNextTask().encode());
-            this.moveToNextTask();
+            int taskIndex = (firstTaskIndex + i) % this.tasks.size();
+            out.append(',');
+            this.tasks.get(taskIndex).encodeTo(out);
         }
-        return String.valueOf(encodedString);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package towersim.tasks;
+
+/**
+ * Listener that is notified whenever a task list moves on from its current task.
+ * <p>
+ * Listeners are registered with {@link TaskList#addTransitionListener(TaskTransitionListener)}
+ * and are called once per call to {@link TaskList#moveToNextTask()}, after the current task has
+ * been updated.
+ */
+@FunctionalInterface
+public interface TaskTransitionListener {
+    /**
+     * Called after a task list has moved from one task to the next.
+     *
+     * @param previousTask task that was current before the transition
+     * @param currentTask task that is current after the transition
+     */
+    void taskTransitioned(Task previousTask, Task currentTask);
+}
@@ -0,0 +1,25 @@
+package towersim.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads objects of one type back from the machine-readable representation appended by
+ * {@link Encodable#encodeTo(Appendable)}.
+ *
+ * @param <T> type of object decoded
+ */
+@FunctionalInterface
+public interface Decoder<T> {
+    /**
+     * Reads the next encoded object from the given reader, consuming exactly the lines that were
+     * written when it was encoded.
+     *
+     * @param reader reader positioned at the start of an encoded object
+     * @return decoded object
+     * @throws IOException if an IOException is encountered when reading from the reader
+     * @throws MalformedSaveException if the text read is not a valid encoding of the object,
+     * including if the reader ends before the object is complete
+     */
+    T decodeFrom(BufferedReader reader) throws IOException, MalformedSaveException;
+}
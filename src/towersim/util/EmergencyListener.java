@@ -0,0 +1,17 @@
+package towersim.util;
+
+/**
+ * Listener that is notified whenever a state of emergency is declared or cleared on an entity.
+ * <p>
+ * Listeners are only called when the state actually changes, so declaring an emergency on an
+ * entity already in a state of emergency does not notify them.
+ */
+@FunctionalInterface
+public interface EmergencyListener {
+    /**
+     * Called after a state of emergency has been declared or cleared on the given entity.
+     *
+     * @param source entity whose state of emergency changed
+     */
+    void emergencyChanged(EmergencyState source);
+}
@@ -1,12 +1,40 @@
 package towersim.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Denotes a class whose state can be encoded and represented as a String.
+ * <p>
+ * Implementations write their encoded representation directly to a destination with
+ * {@link #encodeTo(Appendable)}, so that an object made up of other encodable objects can be
+ * encoded into a single buffer or writer without building a string for each part.
  */
 public interface Encodable {
     /**
      * Returns the machine-readable encoded representation of this object.
+     * <p>
+     * By default, this is the text appended by {@link #encodeTo(Appendable)}.
+     *
      * @return encoded String representation
      */
-    String encode();
+    default String encode() {
+        StringBuilder encoded = new StringBuilder();
+        try {
+            this.encodeTo(encoded);
+        } catch (IOException e) {
+            //appending to a StringBuilder never throws an IOException
+            throw new UncheckedIOException(e);
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Appends the machine-readable encoded representation of this object to the given
+     * destination.
+     *
+     * @param out destination to append the encoded representation to
+     * @throws IOException if the destination throws an IOException
+     */
+    void encodeTo(Appendable out) throws IOException;
 }
@@ -6,6 +6,7 @@ import towersim.tasks.Task;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -294,6 +295,37 @@ public class AircraftTest {
         assertEquals(compareAircraft.hashCode(), this.passengerAircraft1.hashCode());
     }
 
+    @Test
+    public void getCallsign_InternedTest() {
+        PassengerAircraft compareAircraft = new PassengerAircraft(new String("ABC123"),
+                AircraftCharacteristics.AIRBUS_A320,
+                taskList1,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity,
+                AircraftCharacteristics.AIRBUS_A320.passengerCapacity);
+        assertSame(this.passengerAircraft1.getCallsign(), compareAircraft.getCallsign());
+        assertNotEquals(passengerAircraft2, this.passengerAircraft1);
+        assertEquals(compareAircraft, this.passengerAircraft1);
+    }
+
+    @Test
+    public void callsignOrder_MatchesStringOrderTest() {
+        List<String> callsigns = List.of("ABC123", "ABC12", "ABC1234", "ABC12345678",
+                "ABC12345679", "ABC1", "", "A\u0000", "A", "AB\u4e00", "AB\u4e01", "AB\u01ff",
+                "AB\u01ffZ", "AB\u01fe", "ABD", "abc");
+        List<Aircraft> aircraft = new ArrayList<>();
+        for (String callsign : callsigns) {
+            aircraft.add(new PassengerAircraft(callsign, AircraftCharacteristics.AIRBUS_A320,
+                    taskList1, 0, 0));
+        }
+        for (Aircraft first : aircraft) {
+            for (Aircraft second : aircraft) {
+                assertEquals(first.getCallsign() + " vs " + second.getCallsign(),
+                        Integer.signum(first.getCallsign().compareTo(second.getCallsign())),
+                        Integer.signum(AircraftRegistry.CALLSIGN_ORDER.compare(first, second)));
+            }
+        }
+    }
+
     @Test
     public void encodeTest() {
         assertEquals("ABC123:AIRBUS_A320:AWAY,LAND,LOAD@0,TAKEOFF:27200.00:false:150",
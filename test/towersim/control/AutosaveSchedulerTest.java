@@ -0,0 +1,119 @@
+package towersim.control;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import towersim.aircraft.Aircraft;
+import towersim.ground.AirplaneTerminal;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class AutosaveSchedulerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ControlTower tower;
+    private SaveWriter saveWriter;
+
+    /* Listener that ignores the outcome of saves */
+    private static final SaveListener IGNORE = new SaveListener() {
+        @Override
+        public void saved() {
+        }
+
+        @Override
+        public void failed(IOException e) {
+        }
+    };
+
+    @Before
+    public void setup() {
+        tower = new ControlTower(0, List.of(), new LandingQueue(), new TakeoffQueue(),
+                new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)));
+        tower.addTerminal(new AirplaneTerminal(1));
+        saveWriter = new SaveWriter();
+    }
+
+    @After
+    public void tearDown() {
+        saveWriter.shutdown();
+    }
+
+    /* Waits until the save writer has finished all saves */
+    private void awaitWriter() throws InterruptedException {
+        while (saveWriter.isWriting()) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void tick_RotatesCheckpointsTest() throws Exception {
+        AutosaveScheduler autosave = new AutosaveScheduler(tower, saveWriter,
+                folder.getRoot(), 2, 2, IGNORE);
+        for (int i = 0; i < 6; i++) {
+            tower.tick();
+            autosave.tick();
+            awaitWriter();
+        }
+
+        assertEquals("A checkpoint should be written every 2 ticks", 3,
+                autosave.getNumCheckpoints());
+        assertEquals(0, autosave.getNumSkipped());
+        //the third checkpoint (tick 6) overwrote the first
+        List<String> newest = autosave.getCheckpointFilenames(0);
+        ControlTower loaded = ControlTowerInitialiser.createControlTower(
+                SaveFiles.openReader(newest.get(0)), SaveFiles.openReader(newest.get(1)),
+                SaveFiles.openReader(newest.get(2)), SaveFiles.openReader(newest.get(3)));
+        assertEquals(6, loaded.getTicksElapsed());
+        assertEquals(1, loaded.getTerminals().size());
+        List<String> older = autosave.getCheckpointFilenames(1);
+        assertEquals(4, ControlTowerInitialiser.loadTick(SaveFiles.openReader(older.get(0))));
+    }
+
+    @Test(timeout = 10000)
+    public void tick_SkipsWhileWritingTest() throws Exception {
+        AutosaveScheduler autosave = new AutosaveScheduler(tower, saveWriter,
+                folder.newFolder("autosave"), 1, 3, IGNORE);
+        CountDownLatch release = new CountDownLatch(1);
+        saveWriter.write(TowerSave.capture(tower),
+                autosave.getCheckpointFilenames(2), new SaveListener() {
+                    @Override
+                    public void progressed(double fractionWritten) {
+                        //holds the writer thread while the save is still being written
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+
+                    @Override
+                    public void saved() {
+                    }
+
+                    @Override
+                    public void failed(IOException e) {
+                    }
+                });
+
+        tower.tick();
+        autosave.tick();
+        assertEquals("A checkpoint due while a save is being written should be skipped",
+                1, autosave.getNumSkipped());
+        assertEquals(0, autosave.getNumCheckpoints());
+
+        release.countDown();
+        awaitWriter();
+        tower.tick();
+        autosave.tick();
+        assertEquals(1, autosave.getNumCheckpoints());
+    }
+}
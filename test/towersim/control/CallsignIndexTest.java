@@ -0,0 +1,119 @@
+package towersim.control;
+
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftRegistry;
+import towersim.aircraft.PassengerAircraft;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSuitableGateException;
+
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class CallsignIndexTest {
+    private CallsignIndex index;
+
+    @Before
+    public void setup() {
+        index = new CallsignIndex();
+        for (String callsign : List.of("QFA002", "QFA000", "UAL100", "QFA010", "VH-ABC")) {
+            index.add(createAircraft(callsign));
+        }
+    }
+
+    private static Aircraft createAircraft(String callsign) {
+        TaskList taskList = new TaskList(List.of(
+                new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 50),
+                new Task(TaskType.TAKEOFF)));
+        return new PassengerAircraft(callsign, AircraftCharacteristics.AIRBUS_A320, taskList,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+    }
+
+    @Test
+    public void add_KeepsFirstAircraftWithCallsignTest() {
+        Aircraft first = index.get("QFA000");
+        assertFalse(index.add(createAircraft("QFA000")));
+        assertSame(first, index.get("QFA000"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    public void containsAndGetTest() {
+        assertTrue(index.contains("UAL100"));
+        assertEquals("UAL100", index.get("UAL100").getCallsign());
+        assertFalse(index.contains("UAL10"));
+        assertNull(index.get("UAL101"));
+    }
+
+    @Test
+    public void findByPrefix_ReturnsMatchesInOrderTest() {
+        List<Aircraft> found = index.findByPrefix("QFA", 10);
+        assertEquals(3, found.size());
+        assertEquals("QFA000", found.get(0).getCallsign());
+        assertEquals("QFA002", found.get(1).getCallsign());
+        assertEquals("QFA010", found.get(2).getCallsign());
+
+        assertEquals(2, index.findByPrefix("QFA", 2).size());
+        assertEquals("QFA010", index.findByPrefix("QFA01", 10).get(0).getCallsign());
+        assertEquals(5, index.findByPrefix("", 10).size());
+        assertTrue(index.findByPrefix("QFB", 10).isEmpty());
+        assertTrue(index.findByPrefix("QFA", 0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findByPrefix_NegativeLimitTest() {
+        index.findByPrefix("QFA", -1);
+    }
+
+    @Test
+    public void allocate_ReturnsFirstFreeCallsignTest() {
+        assertEquals("QFA001", index.allocate("QFA", "0123456789", 3));
+        assertEquals("UAL000", index.allocate("UAL", "0123456789", 3));
+        assertEquals("VH-ABA", index.allocate("VH-AB", "ABC", 1));
+        index.add(createAircraft("QFA001"));
+        assertEquals("QFA003", index.allocate("QFA", "0123456789", 3));
+    }
+
+    @Test
+    public void allocate_SkipsRunOfCallsignsInUseTest() {
+        for (String callsign : List.of("QFA001", "QFA0010", "QFA003", "QFA004", "QFA005")) {
+            index.add(createAircraft(callsign));
+        }
+        assertEquals("QFA006", index.allocate("QFA", "0123456789", 3));
+        assertEquals("QFA0", index.allocate("QFA", "0123456789", 1));
+        assertEquals("QFB000", index.allocate("QFB", "0123456789", 3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void allocate_AllInUseTest() {
+        index.add(createAircraft("QFA001"));
+        index.allocate("QFA00", "012", 1);
+    }
+
+    @Test
+    public void controlTower_IndexesAircraftTest() throws NoSuitableGateException {
+        Aircraft existing = createAircraft("TWR001");
+        ControlTower tower = new ControlTower(0, List.of(existing), new LandingQueue(),
+                new TakeoffQueue(), new TreeMap<>(AircraftRegistry.CALLSIGN_ORDER));
+        Aircraft added = createAircraft("TWR002");
+        tower.addAircraft(added);
+        Aircraft addedInBulk = createAircraft("TWR003");
+        tower.addAllAircraft(List.of(addedInBulk));
+
+        CallsignIndex towerIndex = tower.getCallsignIndex();
+        assertEquals(3, towerIndex.size());
+        assertSame(existing, towerIndex.get("TWR001"));
+        assertSame(added, towerIndex.get("TWR002"));
+        assertSame(addedInBulk, towerIndex.get("TWR003"));
+        assertEquals("TWR000", towerIndex.allocate("TWR", "0123456789", 3));
+    }
+}
@@ -1,27 +1,36 @@
 package towersim.control;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
 import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.ground.Terminal;
 import towersim.tasks.Task;
 import towersim.tasks.TaskList;
 import towersim.tasks.TaskType;
 import towersim.util.MalformedSaveException;
+import towersim.util.NoSpaceException;
 
 import javax.naming.ldap.Control;
 import java.io.*;
 import java.nio.Buffer;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.zip.CRC32;
 
 import static org.junit.Assert.*;
 
 public class ControlTowerInitialiserTest {
-
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private Map<Aircraft, Integer> loadingAircraftMap;
     private TakeoffQueue takeoffQueue;
@@ -790,6 +799,49 @@ public class ControlTowerInitialiserTest {
         }
     }
 
+    /* Returns two different aircraft sharing the callsign DUP001 */
+    private static List<Aircraft> createDuplicateAircraft() {
+        List<Aircraft> duplicates = new ArrayList<>();
+        for (AircraftCharacteristics characteristics : List.of(
+                AircraftCharacteristics.AIRBUS_A320, AircraftCharacteristics.BOEING_787)) {
+            duplicates.add(new PassengerAircraft("DUP001", characteristics,
+                    new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                            new Task(TaskType.LOAD, 50), new Task(TaskType.TAKEOFF))),
+                    characteristics.fuelCapacity, 0));
+        }
+        return duplicates;
+    }
+
+    @Test
+    public void readQueue_DuplicateCallsignQueuesEveryMatchTest() throws IOException,
+            MalformedSaveException {
+        List<Aircraft> duplicates = createDuplicateAircraft();
+        BufferedReader br = new BufferedReader(new StringReader(String.join(
+                System.lineSeparator(), "TakeoffQueue:1", "DUP001")));
+
+        ControlTowerInitialiser.readQueue(br, duplicates, takeoffQueue);
+
+        assertEquals(duplicates, takeoffQueue.getAircraftInOrder());
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void readGate_DuplicateCallsignTest() throws MalformedSaveException {
+        ControlTowerInitialiser.readGate("1:DUP001", createDuplicateAircraft());
+    }
+
+    @Test
+    public void readLoadingAircraft_DuplicateCallsignLoadsFirstTest() throws IOException,
+            MalformedSaveException {
+        List<Aircraft> duplicates = createDuplicateAircraft();
+        BufferedReader br = new BufferedReader(new StringReader(String.join(
+                System.lineSeparator(), "LoadingAircraft:1", "DUP001:3")));
+
+        ControlTowerInitialiser.readLoadingAircraft(br, duplicates, loadingAircraftMap);
+
+        assertEquals(1, loadingAircraftMap.size());
+        assertSame(duplicates.get(0), loadingAircraftMap.keySet().iterator().next());
+    }
+
     @Test
     public void readQueue2Aircraft1Wrong() {
         String fileContents = String.join(System.lineSeparator(),
@@ -923,4 +975,243 @@ public class ControlTowerInitialiserTest {
 
         }
     }
+
+    @Test
+    public void readTerminal_MoreThanMaxGatesTest() throws IOException, MalformedSaveException {
+        AirplaneTerminal terminal = new AirplaneTerminal(1, 60);
+        for (int i = 1; i <= 60; i++) {
+            try {
+                terminal.addGate(new Gate(i));
+            } catch (NoSpaceException e) {
+                fail();
+            }
+        }
+        String[] lines = terminal.encode().split(System.lineSeparator(), 2);
+        Terminal decoded = ControlTowerInitialiser.readTerminal(lines[0],
+                new BufferedReader(new StringReader(lines[1])), aircrafts);
+
+        assertEquals(60, decoded.getGates().size());
+        assertEquals(terminal.encode(), decoded.encode());
+    }
+
+    @Test
+    public void readTerminal_GateCapacityTest() throws IOException, MalformedSaveException {
+        Terminal decoded = ControlTowerInitialiser.readTerminal("HelicopterTerminal:4:false:1:2",
+                new BufferedReader(new StringReader("1:empty")), aircrafts);
+
+        assertEquals(2, decoded.getGateCapacity());
+        assertEquals("HelicopterTerminal:4:false:1:2" + System.lineSeparator() + "1:empty",
+                decoded.encode());
+        assertEquals(Terminal.MAX_NUM_GATES, ControlTowerInitialiser.readTerminal(
+                "AirplaneTerminal:5:false:0", new BufferedReader(new StringReader("")),
+                aircrafts).getGateCapacity());
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void readTerminal_GateCapacityBelowNumGatesTest() throws IOException,
+            MalformedSaveException {
+        ControlTowerInitialiser.readTerminal("AirplaneTerminal:4:false:2:1",
+                new BufferedReader(new StringReader("1:empty" + System.lineSeparator()
+                        + "2:empty")), aircrafts);
+    }
+
+    @Test
+    public void createControlTowerTrusted_KeepsGateCapacityTest() throws IOException,
+            MalformedSaveException {
+        ControlTower tower = loadBasicTicked(0);
+        tower.addTerminal(new AirplaneTerminal(9, 2));
+
+        ControlTower loaded = loadTrusted(TowerSave.capture(tower).getContents());
+
+        Terminal added = loaded.getTerminals().get(loaded.getTerminals().size() - 1);
+        assertEquals(9, added.getTerminalNumber());
+        assertEquals(2, added.getGateCapacity());
+    }
+
+    @Test
+    public void createControlTowerConcurrently_MatchesSequentialTest() throws IOException,
+            MalformedSaveException {
+        ControlTower sequential = ControlTowerInitialiser.createControlTower(
+                new FileReader("saves/tick_default.txt"),
+                new FileReader("saves/aircraft_default.txt"),
+                new FileReader("saves/queues_default.txt"),
+                new FileReader("saves/terminalsWithGates_default.txt"));
+        ControlTower concurrent = ControlTowerInitialiser.createControlTowerConcurrently(
+                new FileReader("saves/tick_default.txt"),
+                new FileReader("saves/aircraft_default.txt"),
+                new FileReader("saves/queues_default.txt"),
+                new FileReader("saves/terminalsWithGates_default.txt"));
+
+        assertEquals(TowerSave.capture(sequential).getContents(),
+                TowerSave.capture(concurrent).getContents());
+    }
+
+    @Test
+    public void createControlTowerConcurrently_UnknownCallsignTest() throws IOException {
+        String queues = String.join(System.lineSeparator(),
+                "TakeoffQueue:1",
+                "NOP999",
+                "LandingQueue:0",
+                "LoadingAircraft:0");
+        try {
+            ControlTowerInitialiser.createControlTowerConcurrently(new StringReader("0"),
+                    new StringReader("0"), new StringReader(queues), new StringReader("0"));
+            fail("A queue listing an unknown callsign should result in a MalformedSaveException");
+        } catch (MalformedSaveException expected) {
+        }
+    }
+
+    /* Loads the basic save and ticks it the given number of times */
+    private ControlTower loadBasicTicked(int ticks) throws IOException, MalformedSaveException {
+        ControlTower tower = ControlTowerInitialiser.createControlTower(
+                new FileReader("saves/tick_basic.txt"),
+                new FileReader("saves/aircraft_basic.txt"),
+                new FileReader("saves/queues_basic.txt"),
+                new FileReader("saves/terminalsWithGates_basic.txt"));
+        for (int i = 0; i < ticks; i++) {
+            tower.tick();
+        }
+        return tower;
+    }
+
+    /* Loads the given save contents with createControlTowerTrusted() */
+    private static ControlTower loadTrusted(List<String> contents) throws IOException,
+            MalformedSaveException {
+        return ControlTowerInitialiser.createControlTowerTrusted(
+                new StringReader(contents.get(0)), new StringReader(contents.get(1)),
+                new StringReader(contents.get(2)), new StringReader(contents.get(3)));
+    }
+
+    @Test
+    public void createControlTowerTrusted_RoundTripTest() throws IOException,
+            MalformedSaveException {
+        //some aircraft are queued and loading after 3 ticks
+        TowerSave save = TowerSave.capture(loadBasicTicked(3));
+
+        ControlTower loaded = loadTrusted(save.getContents());
+
+        assertEquals(save.getContents(), TowerSave.capture(loaded).getContents());
+        assertEquals(save.getTicksElapsed(), loaded.getTicksElapsed());
+    }
+
+    @Test
+    public void createControlTowerTrusted_ChecksumMismatchValidatesTest() throws IOException,
+            MalformedSaveException {
+        List<String> contents = new ArrayList<>(TowerSave.capture(loadBasicTicked(0))
+                .getContents());
+        //still well formed, so only the checksum reveals the change
+        contents.set(2, contents.get(2).replace("TakeoffQueue:0", "TakeoffQueue:1"
+                + System.lineSeparator() + "NOP999"));
+        try {
+            loadTrusted(TowerSave.capture(loadBasicTicked(0)).getContents());
+        } catch (MalformedSaveException e) {
+            fail("An unmodified save should load");
+        }
+        try {
+            loadTrusted(contents);
+            fail("A modified save should be validated and rejected");
+        } catch (MalformedSaveException expected) {
+        }
+    }
+
+    /* Writes the given save contents to files, compressing the aircraft file */
+    private List<String> writeFiles(List<String> contents) throws IOException {
+        List<String> filenames = new ArrayList<>();
+        for (String name : List.of("tick.txt", "aircraft.txt" + SaveFiles.COMPRESSED_SUFFIX,
+                "queues.txt", "terminals.txt")) {
+            filenames.add(new File(folder.getRoot(), name).getPath());
+        }
+        for (int i = 0; i < filenames.size(); i++) {
+            try (Writer writer = SaveFiles.openWriter(filenames.get(i))) {
+                writer.write(contents.get(i));
+            }
+        }
+        return filenames;
+    }
+
+    @Test
+    public void createControlTowerTrusted_FilesRoundTripTest() throws IOException,
+            MalformedSaveException {
+        TowerSave save = TowerSave.capture(loadBasicTicked(3));
+
+        ControlTower loaded = ControlTowerInitialiser.createControlTowerTrusted(
+                writeFiles(save.getContents()));
+
+        assertEquals(save.getContents(), TowerSave.capture(loaded).getContents());
+    }
+
+    @Test(expected = MalformedSaveException.class)
+    public void createControlTowerTrusted_FilesChecksumMismatchValidatesTest()
+            throws IOException, MalformedSaveException {
+        List<String> contents = new ArrayList<>(TowerSave.capture(loadBasicTicked(0))
+                .getContents());
+        contents.set(2, contents.get(2).replace("TakeoffQueue:0", "TakeoffQueue:1"
+                + System.lineSeparator() + "NOP999"));
+
+        ControlTowerInitialiser.createControlTowerTrusted(writeFiles(contents));
+    }
+
+    @Test
+    public void checksumReader_MatchesComputeChecksumTest() throws IOException {
+        //includes two and three byte characters, a surrogate pair and an unpaired surrogate
+        List<String> parts = List.of("aircraft \u00e9\u20ac", "queues \ud83d\ude80",
+                "terminals \ud83d");
+        CRC32 checksum = new CRC32();
+        checksum.update("7".getBytes());
+        checksum.update(0);
+        for (String part : parts) {
+            try (Reader reader = new ChecksumReader(new StringReader(part), checksum)) {
+                assertEquals(part.charAt(0), reader.read());
+                reader.skip(1);
+                while (reader.read(new char[3]) != -1) {
+                    //read to the end
+                }
+                assertEquals(-1, reader.read());
+            }
+        }
+        assertEquals(TowerSave.computeChecksum("7", parts.get(0), parts.get(1), parts.get(2)),
+                Long.toHexString(checksum.getValue()));
+    }
+
+    @Test
+    public void decoders_RoundTripTest() throws IOException, MalformedSaveException,
+            NoSpaceException {
+        AirplaneTerminal terminal = new AirplaneTerminal(4);
+        Gate gate = new Gate(1);
+        gate.parkAircraft(passengerAircraft1);
+        terminal.addGate(gate);
+        terminal.addGate(new Gate(2));
+        TakeoffQueue queue = new TakeoffQueue();
+        queue.addAircraft(passengerAircraft2);
+        queue.addAircraft(passengerAircraft1);
+
+        //each object is appended directly to the writer, one after another
+        StringWriter writer = new StringWriter();
+        passengerAircraft3.encodeTo(writer);
+        writer.append(System.lineSeparator());
+        queue.encodeTo(writer);
+        writer.append(System.lineSeparator());
+        terminal.encodeTo(writer);
+        writer.append(System.lineSeparator());
+        passengerAircraft3.getTaskList().encodeTo(writer);
+
+        BufferedReader reader = new BufferedReader(new StringReader(writer.toString()));
+        Aircraft aircraftDecoded = ControlTowerInitialiser.aircraftDecoder().decodeFrom(reader);
+        TakeoffQueue queueDecoded = ControlTowerInitialiser.queueDecoder(aircrafts,
+                TakeoffQueue::new).decodeFrom(reader);
+        Terminal terminalDecoded = ControlTowerInitialiser.terminalDecoder(aircrafts)
+                .decodeFrom(reader);
+        TaskList taskListDecoded = ControlTowerInitialiser.taskListDecoder().decodeFrom(reader);
+
+        assertEquals(passengerAircraft3.encode(), aircraftDecoded.encode());
+        assertEquals(queue.getAircraftInOrder(), queueDecoded.getAircraftInOrder());
+        assertEquals(terminal.encode(), terminalDecoded.encode());
+        assertSame(passengerAircraft1, terminalDecoded.getGates().get(0).getAircraftAtGate());
+        assertEquals(passengerAircraft3.getTaskList().encode(), taskListDecoded.encode());
+        try {
+            ControlTowerInitialiser.gateDecoder(aircrafts).decodeFrom(reader);
+            fail("Decoding past the end of the reader should be rejected");
+        } catch (MalformedSaveException expected) {
+        }
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import towersim.aircraft.Aircraft;
 import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.AircraftType;
 import towersim.aircraft.FreightAircraft;
 import towersim.aircraft.PassengerAircraft;
 import towersim.ground.AirplaneTerminal;
@@ -16,9 +17,15 @@ import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.*;
 
@@ -453,5 +460,392 @@ public class ControlTowerTest {
                 tower.toString());
     }
 
+    @Test
+    public void tick_PlacesTransitionedAircraftInQueuesTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftAway), landingQueue, takeoffQueue,
+                loadingAircraftMap);
+
+        tower.tick(); // AWAY -> LAND
+
+        assertTrue("tick() should add aircraft that moved on to a LAND task to the landing queue",
+                landingQueue.containsAircraft(passengerAircraftAway));
+    }
+
+    @Test
+    public void tick_PlacesInitialAircraftInQueuesTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftLanding), landingQueue,
+                takeoffQueue, loadingAircraftMap);
+
+        tower.tick();
+
+        assertTrue("tick() should place aircraft given to the constructor in the queue matching "
+                + "their current task", landingQueue.containsAircraft(passengerAircraftLanding));
+    }
+
+    @Test
+    public void tick_QueuesSameTickTransitionsInListOrderTest() {
+        Aircraft first = new PassengerAircraft("ORD001", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.TAKEOFF), new Task(TaskType.AWAY),
+                        new Task(TaskType.LAND), new Task(TaskType.LOAD, 50))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        Aircraft second = new PassengerAircraft("ORD002", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.AWAY),
+                        new Task(TaskType.LAND), new Task(TaskType.LOAD, 50),
+                        new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        takeoffQueue.addAircraft(first);
+        tower = new ControlTower(0, List.of(first, second), landingQueue, takeoffQueue,
+                loadingAircraftMap);
+
+        tower.tick(); // ORD002 AWAY -> AWAY, then ORD001 takes off, TAKEOFF -> AWAY
+        tower.tick(); // ORD001 and ORD002 AWAY -> LAND
+
+        assertEquals("Aircraft joining a queue in the same tick should be queued in the order "
+                + "they were added to the tower", List.of(first, second),
+                landingQueue.getAircraftInOrder());
+    }
+
+    @Test
+    public void getAircraftWithTask_ListOrderTest() {
+        Aircraft first = new PassengerAircraft("ORD001", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.TAKEOFF), new Task(TaskType.AWAY),
+                        new Task(TaskType.LAND), new Task(TaskType.LOAD, 50))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        Aircraft second = new PassengerAircraft("ORD002", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.AWAY),
+                        new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.LOAD, 50), new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        takeoffQueue.addAircraft(first);
+        tower = new ControlTower(0, List.of(first, second), landingQueue, takeoffQueue,
+                loadingAircraftMap);
+
+        tower.tick(); // ORD002 AWAY -> AWAY, then ORD001 takes off, TAKEOFF -> AWAY
+
+        assertEquals("getAircraftWithTask() should iterate in the order aircraft were added",
+                List.of(first, second), new ArrayList<>(tower.getAircraftWithTask(TaskType.AWAY)));
+        assertEquals(List.of(first, second), tower.firstKAircraftWithTask(TaskType.AWAY, 2));
+        assertTrue(tower.getAircraftWithTask(TaskType.AWAY).contains(second));
+        assertFalse(tower.getAircraftWithTask(TaskType.TAKEOFF).contains(first));
+
+        tower.tick(); // ORD001 AWAY -> LAND, ORD002 AWAY -> AWAY
+        tower.tick(); // ORD002 AWAY -> LAND, ORD001 cannot land without a gate
+
+        String queues = TowerSave.capture(tower).getContents().get(2);
+        assertTrue("Saved queues should list aircraft in the order they were added",
+                queues.contains("ORD001,ORD002"));
+    }
+
+    @Test
+    public void getAircraftWithTask_TracksTaskTransitionsTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftAway, passengerAircraftTakingOff),
+                landingQueue, takeoffQueue, loadingAircraftMap);
+
+        assertEquals(Set.of(passengerAircraftAway), tower.getAircraftWithTask(TaskType.AWAY));
+        assertEquals(Set.of(passengerAircraftTakingOff),
+                tower.getAircraftWithTask(TaskType.TAKEOFF));
+
+        tower.tick(); // AWY001 AWAY -> LAND
+
+        assertEquals("getAircraftWithTask() should reflect tasks changed during tick()",
+                Set.of(passengerAircraftAway), tower.getAircraftWithTask(TaskType.LAND));
+        assertTrue(tower.getAircraftWithTask(TaskType.AWAY).isEmpty());
+
+        tower.tick(); // TAK001 takes off, TAKEOFF -> AWAY
+
+        assertEquals(Set.of(passengerAircraftTakingOff),
+                tower.getAircraftWithTask(TaskType.AWAY));
+        assertTrue(tower.getAircraftWithTask(TaskType.TAKEOFF).isEmpty());
+    }
+
+    @Test
+    public void firstKAircraftWithTask_LimitsResultTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftAway, passengerAircraftTakingOff),
+                landingQueue, takeoffQueue, loadingAircraftMap);
+        tower.tick(); // AWY001 AWAY -> LAND
+        tower.tick(); // TAK001 takes off, TAKEOFF -> AWAY
+
+        assertEquals(List.of(passengerAircraftTakingOff),
+                tower.firstKAircraftWithTask(TaskType.AWAY, 1));
+        assertEquals(List.of(passengerAircraftTakingOff),
+                tower.firstKAircraftWithTask(TaskType.AWAY, 6));
+        assertTrue(tower.firstKAircraftWithTask(TaskType.AWAY, 0).isEmpty());
+    }
+
+    @Test
+    public void addAllAircraft_ReportsUnplacedTest() throws NoSpaceException {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        airplaneTerminal1.addGate(gate1);
+        tower.addTerminal(airplaneTerminal1);
+
+        List<Aircraft> unplaced = tower.addAllAircraft(List.of(passengerAircraft1,
+                passengerAircraft2, passengerAircraftLanding));
+
+        assertEquals("Aircraft without a suitable gate should be reported",
+                List.of(passengerAircraft2), unplaced);
+        assertEquals(List.of(passengerAircraft1, passengerAircraftLanding), tower.getAircraft());
+        assertEquals(passengerAircraft1, gate1.getAircraftAtGate());
+        assertTrue(tower.getLandingQueue().containsAircraft(passengerAircraftLanding));
+    }
+
+    @Test
+    public void postCommand_RunAtStartOfTickTest() throws InterruptedException {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        List<Long> ticksWhenRun = new ArrayList<>();
+        List<Thread> feeders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread feeder = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    tower.postCommand(t -> ticksWhenRun.add(t.getTicksElapsed()));
+                }
+            });
+            feeders.add(feeder);
+            feeder.start();
+        }
+        for (Thread feeder : feeders) {
+            feeder.join();
+        }
+        assertTrue("Posted commands should not run before the next tick", ticksWhenRun.isEmpty());
+
+        tower.postCommand(t -> t.addTerminal(airplaneTerminal1));
+        tower.tick();
+
+        assertEquals(4000, ticksWhenRun.size());
+        assertTrue("Commands should run before the tick count is incremented",
+                ticksWhenRun.stream().allMatch(ticks -> ticks == 0));
+        assertEquals(List.of(airplaneTerminal1), tower.getTerminals());
+        assertEquals(0, tower.processCommands());
+    }
+
+    @Test
+    public void processCommands_LeavesLaterPostsForNextTickTest() {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        List<Long> ticksWhenRun = new ArrayList<>();
+        tower.postCommand(new Consumer<ControlTower>() {
+            @Override
+            public void accept(ControlTower t) {
+                ticksWhenRun.add(t.getTicksElapsed());
+                t.postCommand(this);
+            }
+        });
+
+        tower.tick();
+        tower.tick();
+
+        assertEquals("A command that posts itself again should run once per tick",
+                List.of(0L, 1L), ticksWhenRun);
+        assertEquals(1, tower.processCommands());
+        assertEquals(List.of(0L, 1L, 2L), ticksWhenRun);
+    }
 
+    @Test
+    public void getAircraftView_ReadOnlyViewTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftAway), landingQueue, takeoffQueue,
+                loadingAircraftMap);
+        List<Aircraft> view = tower.getAircraftView();
+        try {
+            view.add(passengerAircraftLanding);
+            fail("The list returned by getAircraftView() should not be modifiable");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        try {
+            tower.addAircraft(passengerAircraftLanding);
+        } catch (NoSuitableGateException e) {
+            fail("Adding a LAND aircraft should not require a gate");
+        }
+
+        assertEquals("getAircraftView() should reflect aircraft added after it was returned",
+                List.of(passengerAircraftAway, passengerAircraftLanding), view);
+    }
+
+    @Test
+    public void forEachAircraft_FilterTest() {
+        tower = new ControlTower(0, List.of(passengerAircraftAway, passengerAircraftLanding),
+                landingQueue, takeoffQueue, loadingAircraftMap);
+        List<Aircraft> visited = new ArrayList<>();
+
+        tower.forEachAircraft(a -> a.getTaskList().getCurrentTask().getType() == TaskType.LAND,
+                visited::add);
+
+        assertEquals(List.of(passengerAircraftLanding), visited);
+    }
+
+    @Test
+    public void hasAvailableGate_TracksGatesAndEmergenciesTest() throws NoSpaceException {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        tower.addTerminal(airplaneTerminal1);
+        assertFalse(tower.hasAvailableGate(AircraftType.AIRPLANE));
+
+        airplaneTerminal1.addGate(gate1);
+        assertTrue("Adding a gate to a terminal should make a gate available",
+                tower.hasAvailableGate(AircraftType.AIRPLANE));
+        assertFalse(tower.hasAvailableGate(AircraftType.HELICOPTER));
+
+        gate1.parkAircraft(passengerAircraft1);
+        assertFalse(tower.hasAvailableGate(AircraftType.AIRPLANE));
+        gate1.aircraftLeaves();
+        assertTrue(tower.hasAvailableGate(AircraftType.AIRPLANE));
+
+        airplaneTerminal1.declareEmergency();
+        assertFalse("Gates of terminals in emergency should not be available",
+                tower.hasAvailableGate(AircraftType.AIRPLANE));
+        airplaneTerminal1.clearEmergency();
+        assertTrue(tower.hasAvailableGate(AircraftType.AIRPLANE));
+    }
+
+    @Test
+    public void tryLandAircraft_NoAvailableGateTest() {
+        landingQueue.addAircraft(passengerAircraftLanding);
+        tower = new ControlTower(0, List.of(passengerAircraftLanding), landingQueue,
+                takeoffQueue, loadingAircraftMap);
+        tower.addTerminal(helicopterTerminal1);
+
+        assertFalse("tryLandAircraft() should not land an aircraft with no suitable gate",
+                tower.tryLandAircraft());
+        assertTrue(landingQueue.containsAircraft(passengerAircraftLanding));
+    }
+
+    /* Subscriber that records every event it receives, requesting them one at a time */
+    private static class RecordingSubscriber implements Flow.Subscriber<TowerEvent> {
+        private final List<TowerEvent> received = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(TowerEvent event) {
+            received.add(event);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void getEvents_LoadingStartedAtParkedGateTest() throws Exception {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        tower.getEvents().subscribe(subscriber);
+        airplaneTerminal1.addGate(gate1);
+        airplaneTerminal1.addGate(gate2);
+        tower.addTerminal(airplaneTerminal1);
+        tower.addAircraft(passengerAircraftLoading); // starts loading
+        tower.closeEvents();
+        subscriber.completed.await();
+
+        TowerEvent started = subscriber.received.get(subscriber.received.size() - 1);
+        assertEquals(TowerEvent.Type.LOADING_STARTED, started.getType());
+        assertSame(passengerAircraftLoading, started.getAircraft());
+        assertEquals(1, started.getTerminalNumber());
+        assertEquals(1, started.getGateNumber());
+    }
+
+    @Test(timeout = 10000)
+    public void getEvents_LoadingAtGateChangedDirectlyTest() throws Exception {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        tower.getEvents().subscribe(subscriber);
+        airplaneTerminal1.addGate(gate1);
+        airplaneTerminal1.addGate(gate2);
+        tower.addTerminal(airplaneTerminal1);
+        tower.addAircraft(passengerAircraftLoading);
+        //move the aircraft without going through the tower
+        gate1.aircraftLeaves();
+        gate2.parkAircraft(passengerAircraftLoading);
+        while (tower.getLoadingAircraft().containsKey(passengerAircraftLoading)) {
+            tower.loadAircraft();
+        }
+        tower.closeEvents();
+        subscriber.completed.await();
+
+        TowerEvent finished = subscriber.received.get(subscriber.received.size() - 1);
+        assertEquals(TowerEvent.Type.LOADING_FINISHED, finished.getType());
+        assertEquals(2, finished.getGateNumber());
+        assertFalse(gate2.isOccupied());
+        assertFalse(gate1.isOccupied());
+    }
+
+    @Test(timeout = 10000)
+    public void getEvents_PublishesActivityTest() throws Exception {
+        tower = new ControlTower(0, List.of(), landingQueue, takeoffQueue, loadingAircraftMap);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        tower.getEvents().subscribe(subscriber);
+        airplaneTerminal1.addGate(gate1);
+        tower.addTerminal(airplaneTerminal1);
+        tower.addAircraft(passengerAircraftLanding);
+        tower.addAircraft(passengerAircraftTakingOff);
+        tower.tick(); // takes off
+        tower.tick(); // lands
+        airplaneTerminal1.declareEmergency();
+        airplaneTerminal1.declareEmergency(); // already declared, so no event
+        tower.closeEvents();
+        subscriber.completed.await();
+
+        List<TowerEvent.Type> types = new ArrayList<>();
+        for (TowerEvent event : subscriber.received) {
+            types.add(event.getType());
+        }
+        assertEquals(List.of(TowerEvent.Type.QUEUED_TO_LAND, TowerEvent.Type.QUEUED_TO_TAKE_OFF,
+                TowerEvent.Type.TOOK_OFF, TowerEvent.Type.LANDED,
+                TowerEvent.Type.GATE_ASSIGNED, TowerEvent.Type.EMERGENCY_DECLARED), types);
+        TowerEvent landed = subscriber.received.get(3);
+        assertSame(passengerAircraftLanding, landed.getAircraft());
+        assertEquals(2, landed.getTick());
+        assertEquals(1, landed.getTerminalNumber());
+        assertEquals(1, landed.getGateNumber());
+        TowerEvent emergency = subscriber.received.get(5);
+        assertNull(emergency.getAircraft());
+        assertEquals(1, emergency.getTerminalNumber());
+        assertEquals(0, tower.getNumDroppedEvents());
+    }
+
+    @Test(timeout = 10000)
+    public void getEvents_DropsWhenBufferFullTest() throws Exception {
+        tower = new ControlTower(0, List.of(passengerAircraftAway), landingQueue, takeoffQueue,
+                loadingAircraftMap);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        tower.getEvents().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                // never requests any events
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(TowerEvent item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        subscribed.await(5, TimeUnit.SECONDS);
+        int numEvents = 4 * ControlTower.EVENT_BUFFER_CAPACITY;
+        for (int i = 0; i < numEvents / 2; i++) {
+            passengerAircraftAway.declareEmergency();
+            passengerAircraftAway.clearEmergency();
+        }
+
+        assertTrue("Events beyond the subscriber's buffer should be dropped, not block",
+                tower.getNumDroppedEvents() >= numEvents - ControlTower.EVENT_BUFFER_CAPACITY);
+        tower.closeEvents();
+    }
 }
@@ -285,6 +285,33 @@ public class LandingQueueTest {
         assertEquals(landingQueueCompare2, this.landingQueuePassenger.getAircraftInOrder());
     }
 
+    @Test
+    public void firstK_MatchesGetAircraftInOrder() {
+        this.freightCraft2.declareEmergency();
+        this.landingQueueMix.addAircraft(freightCraft1);
+        this.landingQueueMix.addAircraft(aircraft3);
+        this.landingQueueMix.addAircraft(freightCraft2);
+        this.landingQueueMix.addAircraft(aircraft2);
+        List<Aircraft> aircraftInOrder = this.landingQueueMix.getAircraftInOrder();
+        for (int k = 0; k <= 5; k++) {
+            assertEquals(aircraftInOrder.subList(0, Math.min(k, 4)),
+                    this.landingQueueMix.firstK(k));
+        }
+    }
+
+    @Test
+    public void firstK_AllAircraftTest() {
+        this.landingQueueMix.addAircraft(freightCraft1);
+        this.landingQueueMix.addAircraft(aircraft2);
+        assertEquals(this.landingQueueMix.getAircraftInOrder(),
+                this.landingQueueMix.firstK(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void firstK_NegativeTest() {
+        this.landingQueueMix.firstK(-1);
+    }
+
     @Test
     public void getAircraftInOrderPassengers() {
         this.landingQueueMix.addAircraft(freightCraft1);
@@ -305,6 +332,16 @@ public class LandingQueueTest {
         assertFalse(this.landingQueuePassenger.containsAircraft(null));
 
     }
+
+    @Test
+    public void containsAircraft_AfterRemovingDuplicateTest() {
+        this.landingQueueMix.addAircraft(aircraft1);
+        this.landingQueueMix.addAircraft(aircraft1);
+        this.landingQueueMix.removeAircraft();
+        assertTrue(this.landingQueueMix.containsAircraft(aircraft1));
+        this.landingQueueMix.removeAircraft();
+        assertFalse(this.landingQueueMix.containsAircraft(aircraft1));
+    }
 //Extra tests not assessed-------------------------------------------------------------------------
     @Test
     public void toStringTestBasic() {
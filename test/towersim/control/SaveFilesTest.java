@@ -0,0 +1,79 @@
+package towersim.control;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class SaveFilesTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String CONTENTS = "2" + System.lineSeparator()
+            + "QFA481:AIRBUS_A320:AWAY,AWAY,LAND,WAIT,LOAD@60,TAKEOFF:10000.00:false:0";
+
+    private static String readAll(Reader reader) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(reader)) {
+            return bufferedReader.lines().collect(Collectors.joining(System.lineSeparator()));
+        }
+    }
+
+    @Test
+    public void openWriter_CompressedRoundTripTest() throws IOException {
+        File file = new File(folder.getRoot(), "aircraft.txt" + SaveFiles.COMPRESSED_SUFFIX);
+        try (Writer writer = SaveFiles.openWriter(file.getPath())) {
+            writer.write(CONTENTS);
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            assertEquals("File should start with the gzip magic number", 0x1f, in.read());
+            assertEquals("File should start with the gzip magic number", 0x8b, in.read());
+        }
+        assertEquals(CONTENTS, readAll(SaveFiles.openReader(file.getPath())));
+    }
+
+    @Test
+    public void openWriter_PlainTest() throws IOException {
+        File file = new File(folder.getRoot(), "aircraft.txt");
+        try (Writer writer = SaveFiles.openWriter(file.getPath())) {
+            writer.write(CONTENTS);
+        }
+        assertEquals(CONTENTS, Files.readString(file.toPath()));
+    }
+
+    @Test
+    public void openReader_PlainTest() throws IOException {
+        File file = new File(folder.getRoot(), "aircraft.txt");
+        try (Writer writer = new FileWriter(file)) {
+            writer.write(CONTENTS);
+        }
+        assertEquals(CONTENTS, readAll(SaveFiles.openReader(file.getPath())));
+    }
+
+    @Test
+    public void openReader_DetectsHeaderNotNameTest() throws IOException {
+        File file = new File(folder.getRoot(), "aircraft.txt");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(CONTENTS.getBytes());
+        }
+        assertEquals(CONTENTS, readAll(SaveFiles.openReader(file.getPath())));
+    }
+
+    @Test
+    public void openReader_EmptyFileTest() throws IOException {
+        File file = folder.newFile("tick.txt");
+        assertEquals("", readAll(SaveFiles.openReader(file.getPath())));
+    }
+}
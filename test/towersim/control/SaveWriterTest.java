@@ -0,0 +1,146 @@
+package towersim.control;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class SaveWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ControlTower tower;
+    private SaveWriter saveWriter;
+
+    @Before
+    public void setup() throws NoSpaceException {
+        TaskList taskList = new TaskList(List.of(
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 100),
+                new Task(TaskType.TAKEOFF),
+                new Task(TaskType.AWAY),
+                new Task(TaskType.LAND)));
+        Aircraft aircraft = new PassengerAircraft("SAV001",
+                AircraftCharacteristics.AIRBUS_A320, taskList,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        tower = new ControlTower(3, List.of(aircraft), new LandingQueue(),
+                new TakeoffQueue(), new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)));
+        AirplaneTerminal terminal = new AirplaneTerminal(1);
+        Gate gate = new Gate(1);
+        gate.parkAircraft(aircraft);
+        terminal.addGate(gate);
+        tower.addTerminal(terminal);
+        saveWriter = new SaveWriter();
+    }
+
+    @After
+    public void tearDown() {
+        saveWriter.shutdown();
+    }
+
+    private List<String> newFilenames() throws IOException {
+        List<String> filenames = new ArrayList<>();
+        for (String name : List.of("tick.txt", "aircraft.txt", "queues.txt", "terminals.txt")) {
+            filenames.add(folder.newFile(name).getPath());
+        }
+        return filenames;
+    }
+
+    @Test
+    public void write_LoadableSaveTest() throws Exception {
+        List<String> filenames = newFilenames();
+        List<Double> progress = new ArrayList<>();
+        List<String> outcomes = new ArrayList<>();
+        saveWriter.write(TowerSave.capture(tower), filenames, new SaveListener() {
+            @Override
+            public void progressed(double fractionWritten) {
+                progress.add(fractionWritten);
+            }
+
+            @Override
+            public void saved() {
+                outcomes.add("saved");
+            }
+
+            @Override
+            public void failed(IOException e) {
+                outcomes.add("failed");
+            }
+        }).get();
+
+        assertEquals(List.of("saved"), outcomes);
+        assertEquals("Progress should reach 1 once the save is written",
+                1.0, progress.get(progress.size() - 1), 0.0);
+        assertFalse(saveWriter.isWriting());
+
+        ControlTower loaded = ControlTowerInitialiser.createControlTower(
+                new FileReader(filenames.get(0)), new FileReader(filenames.get(1)),
+                new FileReader(filenames.get(2)), new FileReader(filenames.get(3)));
+        assertEquals(tower.getTicksElapsed(), loaded.getTicksElapsed());
+        assertEquals(TowerSave.capture(tower).getContents(),
+                TowerSave.capture(loaded).getContents());
+    }
+
+    @Test
+    public void write_FailureReportedTest() throws Exception {
+        List<String> filenames = newFilenames();
+        filenames.set(2, new File(folder.getRoot(), "missing/queues.txt").getPath());
+        List<IOException> failures = new ArrayList<>();
+        saveWriter.write(TowerSave.capture(tower), filenames, new SaveListener() {
+            @Override
+            public void saved() {
+                fail("A save to a missing directory should not succeed");
+            }
+
+            @Override
+            public void failed(IOException e) {
+                failures.add(e);
+            }
+        }).get();
+
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void write_FinishedBeforeListenerToldTest() throws Exception {
+        List<Boolean> writingWhenTold = new ArrayList<>();
+        SaveListener listener = new SaveListener() {
+            @Override
+            public void saved() {
+                writingWhenTold.add(saveWriter.isWriting());
+            }
+
+            @Override
+            public void failed(IOException e) {
+                writingWhenTold.add(saveWriter.isWriting());
+            }
+        };
+        saveWriter.write(TowerSave.capture(tower), newFilenames(), listener).get();
+        List<String> badFilenames = new ArrayList<>(List.of("a", "b", "c", "d"));
+        badFilenames.set(0, new File(folder.getRoot(), "missing/tick.txt").getPath());
+        saveWriter.write(TowerSave.capture(tower), badFilenames, listener).get();
+
+        assertEquals("The last save should not count as writing when its listener is told",
+                List.of(false, false), writingWhenTold);
+    }
+}
@@ -0,0 +1,194 @@
+package towersim.control;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import towersim.aircraft.Aircraft;
+import towersim.aircraft.AircraftCharacteristics;
+import towersim.aircraft.PassengerAircraft;
+import towersim.ground.AirplaneTerminal;
+import towersim.ground.Gate;
+import towersim.tasks.Task;
+import towersim.tasks.TaskList;
+import towersim.tasks.TaskType;
+import towersim.util.NoSpaceException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class SimulationRunnerTest {
+    private ControlTower tower;
+    private SimulationRunner runner;
+    private Aircraft aircraftTakingOff;
+
+    @Before
+    public void setup() throws NoSpaceException {
+        TaskList taskList = new TaskList(List.of(
+                new Task(TaskType.TAKEOFF),
+                new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 100)));
+        aircraftTakingOff = new PassengerAircraft("RUN001",
+                AircraftCharacteristics.AIRBUS_A320, taskList,
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        tower = new ControlTower(0, List.of(aircraftTakingOff), new LandingQueue(),
+                new TakeoffQueue(), new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)));
+        AirplaneTerminal terminal = new AirplaneTerminal(1);
+        terminal.addGate(new Gate(1));
+        tower.addTerminal(terminal);
+        runner = new SimulationRunner(tower, 6);
+    }
+
+    @After
+    public void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    public void constructor_PublishesInitialSnapshotTest() {
+        TowerSnapshot snapshot = runner.getLatestSnapshot();
+        assertEquals(0, snapshot.getTicksElapsed());
+        assertEquals(1, snapshot.getAircraft().size());
+        assertEquals(TaskType.TAKEOFF,
+                snapshot.getAircraftState(aircraftTakingOff).getCurrentTask().getType());
+        assertEquals(1, snapshot.getTerminals().size());
+    }
+
+    @Test
+    public void requestTick_PublishesNewSnapshotTest() throws Exception {
+        TowerSnapshot initial = runner.getLatestSnapshot();
+        runner.requestTick();
+        runner.requestTick();
+        // actions are run in order, so this waits for both ticks
+        runner.submit(() -> null).get();
+
+        TowerSnapshot latest = runner.getLatestSnapshot();
+        assertEquals(2, latest.getTicksElapsed());
+        assertEquals(TaskType.AWAY,
+                latest.getAircraftState(aircraftTakingOff).getCurrentTask().getType());
+        assertEquals("earlier snapshots should not change when the tower is ticked",
+                0, initial.getTicksElapsed());
+        assertEquals(TaskType.TAKEOFF,
+                initial.getAircraftState(aircraftTakingOff).getCurrentTask().getType());
+    }
+
+    @Test(timeout = 10000)
+    public void startTurbo_TicksUntilStoppedTest() throws Exception {
+        runner.startTurbo();
+        assertTrue(runner.isTurbo());
+        while (runner.getLatestSnapshot().getTicksElapsed() < 100) {
+            Thread.sleep(1);
+        }
+        runner.stopTurbo();
+        // wait for the batch in progress to finish
+        long ticksAfterStop = runner.submit(tower::getTicksElapsed).get();
+
+        assertFalse(runner.isTurbo());
+        assertEquals(ticksAfterStop, runner.getLatestSnapshot().getTicksElapsed());
+        Thread.sleep(20);
+        assertEquals(ticksAfterStop, (long) runner.submit(tower::getTicksElapsed).get());
+    }
+
+    @Test
+    public void submit_RunsOnSimulationThreadTest() throws Exception {
+        assertFalse(runner.isSimulationThread());
+        assertTrue(runner.submit(runner::isSimulationThread).get());
+    }
+
+    @Test
+    public void snapshot_RecordsLoadingStateTest() throws NoSpaceException {
+        Aircraft loading = new PassengerAircraft("LOAD01", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.LOAD, 50), new Task(TaskType.TAKEOFF),
+                        new Task(TaskType.AWAY), new Task(TaskType.LAND))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        TreeMap<Aircraft, Integer> loadingAircraft =
+                new TreeMap<>(Comparator.comparing(Aircraft::getCallsign));
+        loadingAircraft.put(loading, 3);
+        ControlTower loadingTower = new ControlTower(0, List.of(aircraftTakingOff, loading),
+                new LandingQueue(), new TakeoffQueue(), loadingAircraft);
+        AirplaneTerminal terminal = new AirplaneTerminal(1);
+        Gate gate = new Gate(7);
+        gate.parkAircraft(loading);
+        terminal.addGate(gate);
+        loadingTower.addTerminal(terminal);
+
+        TowerSnapshot snapshot = new TowerSnapshot(loadingTower, 6);
+        TowerSnapshot.LoadingState state = snapshot.getLoadingState(loading);
+        assertNotNull(state);
+        assertEquals("LOAD01", state.getAircraft().getCallsign());
+        assertEquals(7, state.getGateNumber());
+        assertEquals(3, state.getTicksRemaining());
+        assertNull("aircraft not loading should have no loading state",
+                snapshot.getLoadingState(aircraftTakingOff));
+    }
+
+    @Test
+    public void snapshot_EncodesTaskListAsTakenTest() {
+        Aircraft away = new PassengerAircraft("AWAY01", AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.LOAD, 50), new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        Aircraft secondAway = new PassengerAircraft("AWAY02",
+                AircraftCharacteristics.AIRBUS_A320,
+                new TaskList(List.of(new Task(TaskType.AWAY), new Task(TaskType.LAND),
+                        new Task(TaskType.LOAD, 50), new Task(TaskType.TAKEOFF))),
+                AircraftCharacteristics.AIRBUS_A320.fuelCapacity, 0);
+        ControlTower awayTower = new ControlTower(0, List.of(away, secondAway),
+                new LandingQueue(), new TakeoffQueue(),
+                new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)));
+
+        TowerSnapshot snapshot = new TowerSnapshot(awayTower, 1);
+        away.getTaskList().moveToNextTask();
+
+        assertEquals("AWAY,LAND,LOAD@50,TAKEOFF",
+                snapshot.getAircraftState(away).getEncodedTaskList());
+        assertEquals("only the front of each task should be recorded",
+                List.of(snapshot.getAircraftState(away)),
+                snapshot.getAircraftWithTask(TaskType.AWAY));
+        assertEquals(2, snapshot.getAircraft().size());
+    }
+
+    @Test
+    public void snapshot_RecordsAircraftTookOffDuringTickTest() {
+        ControlTower takeoffTower = new ControlTower(0, List.of(aircraftTakingOff),
+                new LandingQueue(), new TakeoffQueue(),
+                new TreeMap<>(Comparator.comparing(Aircraft::getCallsign)));
+        takeoffTower.tick();
+        assertNull(new TowerSnapshot(takeoffTower, 6).getAircraftTookOff());
+
+        takeoffTower.tick();
+        TowerSnapshot snapshot = new TowerSnapshot(takeoffTower, 6);
+        assertSame(aircraftTakingOff, snapshot.getAircraftTookOff().getAircraft());
+        assertNull(snapshot.getAircraftLanded());
+
+        takeoffTower.tick();
+        assertNull("only the most recent tick should be recorded",
+                new TowerSnapshot(takeoffTower, 6).getAircraftTookOff());
+    }
+
+    @Test
+    public void shutdown_ConcurrentCallsTest() throws InterruptedException {
+        AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    runner.shutdown();
+                } catch (RuntimeException e) {
+                    thrown.set(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        runner.shutdown();
+        assertNull("shutdown() should not throw when called concurrently", thrown.get());
+    }
+}
@@ -12,6 +12,7 @@ import towersim.tasks.TaskType;
 import towersim.util.NoSpaceException;
 import towersim.util.NoSuitableGateException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -291,4 +292,75 @@ public class TerminalTest {
                         System.lineSeparator() + "2:HELI1",
                 this.helicopterTerminal.encode());
     }
+
+    @Test
+    public void encode_GateCapacityTest() throws NoSpaceException {
+        AirplaneTerminal terminal = new AirplaneTerminal(4, 10);
+        terminal.addGate(gate1);
+        assertEquals("AirplaneTerminal:4:false:1:10" + System.lineSeparator() + "1:empty",
+                terminal.encode());
+    }
+
+    @Test
+    public void getNumUnoccupiedGates_TracksParkingTest() throws NoSpaceException {
+        airplaneTerminal.addGate(gate1);
+        airplaneTerminal.addGate(gate2);
+        assertEquals(2, airplaneTerminal.getNumUnoccupiedGates());
+
+        gate1.parkAircraft(aircraft);
+        assertEquals("Parking at a gate of the terminal should reduce the number of unoccupied "
+                + "gates", 1, airplaneTerminal.getNumUnoccupiedGates());
+
+        gate1.aircraftLeaves();
+        gate1.aircraftLeaves(); // leaving an empty gate has no effect
+        assertEquals(2, airplaneTerminal.getNumUnoccupiedGates());
+    }
+
+    @Test
+    public void availabilityListener_NotifiedTest() throws NoSpaceException {
+        List<Terminal> notified = new ArrayList<>();
+        airplaneTerminal.addAvailabilityListener(notified::add);
+
+        airplaneTerminal.addGate(gate1);
+        gate1.parkAircraft(aircraft);
+        airplaneTerminal.declareEmergency();
+        airplaneTerminal.declareEmergency(); // already in emergency, no change
+        airplaneTerminal.clearEmergency();
+
+        assertEquals("Listeners should be notified of new gates, parking and emergency changes",
+                4, notified.size());
+    }
+
+    @Test
+    public void addGate_LargeCapacityTest() throws NoSpaceException {
+        Terminal largeTerminal = new AirplaneTerminal(3, 64);
+        for (int i = 0; i < 64; ++i) {
+            largeTerminal.addGate(new Gate(i + 1));
+        }
+        assertEquals(64, largeTerminal.getGates().size());
+        try {
+            largeTerminal.addGate(new Gate(65));
+            fail("Calling addGate() on a terminal at its gate capacity should result in a "
+                    + "NoSpaceException");
+        } catch (NoSpaceException expected) {}
+    }
+
+    @Test
+    public void findUnoccupiedGate_LargeTerminalTest() throws NoSpaceException,
+            NoSuitableGateException {
+        Terminal largeTerminal = new AirplaneTerminal(3, 64);
+        List<Gate> gates = new ArrayList<>();
+        for (int i = 0; i < 64; ++i) {
+            Gate gate = new Gate(i + 1);
+            gates.add(gate);
+            largeTerminal.addGate(gate);
+            gate.parkAircraft(aircraft);
+        }
+        assertEquals(100, largeTerminal.calculateOccupancyLevel());
+
+        gates.get(40).aircraftLeaves();
+        assertSame("findUnoccupiedGate() should return the first gate that is not occupied",
+                gates.get(40), largeTerminal.findUnoccupiedGate());
+        assertEquals(98, largeTerminal.calculateOccupancyLevel());
+    }
 }
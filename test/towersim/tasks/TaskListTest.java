@@ -2,6 +2,7 @@ package towersim.tasks;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -226,4 +227,75 @@ public class TaskListTest {
         assertEquals("AWAY,AWAY,LAND,WAIT,WAIT,LOAD@70,TAKEOFF", list.encode());
     }
 
+
+    @Test
+    public void moveToNextTask_NotifiesListenersTest() {
+        Task awayTask = new Task(TaskType.AWAY);
+        Task landTask = new Task(TaskType.LAND);
+        TaskList list = new TaskList(List.of(awayTask,
+                landTask,
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD),
+                new Task(TaskType.TAKEOFF)));
+        List<Task> transitions = new ArrayList<>();
+        list.addTransitionListener((previousTask, currentTask) -> {
+            transitions.add(previousTask);
+            transitions.add(currentTask);
+        });
+
+        list.moveToNextTask();
+
+        assertEquals("moveToNextTask() should notify listeners of the previous and new current "
+                + "task", List.of(awayTask, landTask), transitions);
+    }
+
+    @Test
+    public void removeTransitionListenerTest() {
+        TaskList list = new TaskList(List.of(new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD),
+                new Task(TaskType.TAKEOFF)));
+        List<Task> transitions = new ArrayList<>();
+        TaskTransitionListener listener = (previousTask, currentTask) ->
+                transitions.add(currentTask);
+        list.addTransitionListener(listener);
+        list.removeTransitionListener(listener);
+
+        list.moveToNextTask();
+
+        assertEquals("Removed listeners should not be notified", List.of(), transitions);
+    }
+
+    @Test
+    public void encode_DoesNotMoveCurrentTaskTest() {
+        Task landTask = new Task(TaskType.LAND);
+        TaskList list = new TaskList(List.of(new Task(TaskType.AWAY),
+                landTask,
+                new Task(TaskType.WAIT),
+                new Task(TaskType.LOAD, 40),
+                new Task(TaskType.TAKEOFF)));
+        list.moveToNextTask();
+        List<Task> transitions = new ArrayList<>();
+        list.addTransitionListener((previousTask, currentTask) -> transitions.add(currentTask));
+
+        assertEquals("LAND,WAIT,LOAD@40,TAKEOFF,AWAY", list.encode());
+        assertEquals("encode() should not change the current task", landTask,
+                list.getCurrentTask());
+        assertEquals("encode() should not notify transition listeners", List.of(), transitions);
+    }
+
+    @Test
+    public void encodeFrom_EncodesFromEarlierTaskTest() {
+        TaskList list = new TaskList(List.of(new Task(TaskType.AWAY),
+                new Task(TaskType.LAND),
+                new Task(TaskType.LOAD, 40),
+                new Task(TaskType.TAKEOFF)));
+        int awayIndex = list.getCurrentTaskIndex();
+        list.moveToNextTask();
+
+        assertEquals(1, list.getCurrentTaskIndex());
+        assertEquals("AWAY,LAND,LOAD@40,TAKEOFF", list.encodeFrom(awayIndex));
+        assertEquals("LAND,LOAD@40,TAKEOFF,AWAY", list.encode());
+    }
 }